@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.furplag.data.json.Profile;
+
+/**
+ * the accessors which generated through {@link java.lang.invoke.LambdaMetafactory} versus reflection .
+ *
+ * @author furplag
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlackbirdBenchmark {
+
+  public static class Bean {
+    private long id = 123456789L;
+    private String name = "blackbird";
+    private boolean deleted;
+    private int versionNo = 1;
+    private double score = .5d;
+    private LocalDateTime created = LocalDateTime.of(2017, 1, 1, 1, 23, 45);
+    private List<String> tags = List.of("a", "b", "c");
+    public long getId() { return id; }
+    public void setId(long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public boolean isDeleted() { return deleted; }
+    public void setDeleted(boolean deleted) { this.deleted = deleted; }
+    public int getVersionNo() { return versionNo; }
+    public void setVersionNo(int versionNo) { this.versionNo = versionNo; }
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+    public LocalDateTime getCreated() { return created; }
+    public void setCreated(LocalDateTime created) { this.created = created; }
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+  }
+
+  @Param({ "false", "true" })
+  public boolean blackbird;
+
+  private Profile profile;
+
+  private final Bean bean = new Bean();
+
+  private String json;
+
+  @Setup
+  public void setup() {
+    profile = Profile.strict().blackbird(blackbird).build();
+    json = profile.serialize(bean);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return profile.serialize(bean);
+  }
+
+  @Benchmark
+  public Bean deserialize() {
+    return profile.deserialize(json, Bean.class);
+  }
+}
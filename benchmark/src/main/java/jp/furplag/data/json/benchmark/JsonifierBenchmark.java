@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import jp.furplag.data.json.Jsonifier;
+
+/**
+ * {@link Jsonifier} serialization and deserialization, in the payload which sizes of a record, a page and a bulk export .
+ *
+ * @author furplag
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonifierBenchmark {
+
+  public static class Item {
+    public long id;
+    public String name;
+    public int quantity;
+    public BigDecimal price;
+    public List<String> tags;
+  }
+
+  public static class Order {
+    public long id;
+    public String customer;
+    public LocalDateTime ordered;
+    public boolean shipped;
+    public Map<String, String> attributes;
+    public List<Item> items;
+  }
+
+  /** the type of the content as {@link TypeReference} . */
+  private static final TypeReference<Order> typeReference = new TypeReference<>() {};
+
+  /** the type of the content as {@link JavaType} . */
+  private static final JavaType javaType = TypeFactory.defaultInstance().constructType(Order.class);
+
+  /** the number of items in the order . */
+  @Param({ "1", "100", "10000" })
+  public int items;
+
+  /** the order . */
+  private Order order;
+
+  /** the order as JSON . */
+  private String json;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    order = new Order();
+    order.id = 123456789L;
+    order.customer = "jsonifier";
+    order.ordered = LocalDateTime.of(2017, 1, 1, 1, 23, 45, 678000000);
+    order.attributes = Map.of("channel", "web", "currency", "JPY", "note", "南無阿弥陀仏");
+    order.items = new ArrayList<>(items);
+    for (int i = 0; i < items; i++) {
+      final Item item = new Item();
+      item.id = i;
+      item.name = "item-" + i;
+      item.quantity = 1 + i % 10;
+      item.price = BigDecimal.valueOf(100 + i, 2);
+      item.tags = List.of("a", "b", "c");
+      order.items.add(item);
+    }
+    json = Jsonifier.serialize(order);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return Jsonifier.serialize(order);
+  }
+
+  @Benchmark
+  public String serializeBrutaly() {
+    return Jsonifier.serializeBrutaly(order);
+  }
+
+  @Benchmark
+  public Object serializeOrFailure() {
+    return Jsonifier.serializeOrFailure(order);
+  }
+
+  @Benchmark
+  public Order deserializeClass() {
+    return Jsonifier.deserialize(json, Order.class);
+  }
+
+  @Benchmark
+  public Order deserializeTypeReference() {
+    return Jsonifier.deserialize(json, typeReference);
+  }
+
+  @Benchmark
+  public Order deserializeJavaType() {
+    return Jsonifier.deserialize(json, javaType);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.furplag.data.json.Jsonizable;
+
+/**
+ * {@link Jsonizable#json()}, {@link Jsonizable#map()}, {@link Jsonizable#merge(Jsonizable, String...)} and {@link Jsonizable#transduce(Class, String...)} .
+ *
+ * @author furplag
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonizableBenchmark {
+
+  public static class Dto implements Jsonizable<Dto> {
+    private long id = 123456789L;
+    private String name = "jsonizable";
+    private boolean deleted;
+    private int versionNo = 1;
+    private LocalDateTime created = LocalDateTime.of(2017, 1, 1, 1, 23, 45);
+    private List<String> tags = List.of("a", "b", "c");
+    private Map<String, Object> attributes = Map.of("channel", "web", "rank", 3);
+  }
+
+  public static class Another implements Jsonizable<Another> {
+    private long id = 987654321L;
+    private String name = "another";
+    private boolean deleted = true;
+    private int versionNo = 2;
+    private LocalDateTime created = LocalDateTime.of(2017, 1, 23, 1, 23, 45);
+    private List<String> tags = List.of("x", "y");
+    private String unknown = "never merged";
+  }
+
+  public static class Entity {
+    public long id;
+    public String name;
+    public boolean deleted;
+    public int versionNo;
+    public LocalDateTime created;
+    public List<String> tags;
+    public Map<String, Object> attributes;
+  }
+
+  private final Dto dto = new Dto();
+
+  private final Another another = new Another();
+
+  private final Dto target = new Dto();
+
+  @Benchmark
+  public String json() {
+    return dto.json();
+  }
+
+  @Benchmark
+  public Map<String, Object> map() {
+    return dto.map();
+  }
+
+  @Benchmark
+  public Dto merge() {
+    return target.merge(another);
+  }
+
+  @Benchmark
+  public Dto mergeExcludes() {
+    return target.merge(another, "id", "created");
+  }
+
+  @Benchmark
+  public Entity transduce() {
+    return dto.transduce(Entity.class);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.furplag.data.json.Jsonifier;
+
+/**
+ * lenient date-time deserialization, in ISO and the formats which only the lenient parser accepts .
+ *
+ * @author furplag
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LenientDateTimeBenchmark {
+
+  /** the text of date-time . */
+  @Param({ "2017-01-01T01:23:45.678", "2017/01/01 01:23:45", "20170101", "2017年1月23日", "2017/01/01 01:23:45 +09:00" })
+  public String text;
+
+  /** the text as JSON string . */
+  private String json;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    json = Jsonifier.serialize(text);
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTime() {
+    return Jsonifier.deserialize(json, LocalDateTime.class);
+  }
+
+  @Benchmark
+  public LocalDate localDate() {
+    return Jsonifier.deserialize(json, LocalDate.class);
+  }
+
+  @Benchmark
+  public Instant instant() {
+    return Jsonifier.deserialize(json, Instant.class);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import jp.furplag.data.json.Jsonifier;
+
+/**
+ * memory-mapped read versus stream-based read of the JSON file .
+ *
+ * @author furplag
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappedBenchmark {
+
+  /** the type of the content . */
+  private static final TypeReference<List<Map<String, Object>>> valueType = new TypeReference<>() {};
+
+  /** the number of records in the file . */
+  @Param({ "10000", "1000000" })
+  public int records;
+
+  /** the file . */
+  private Path file;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    file = Files.createTempFile("jsonifier-benchmark-", ".json");
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write('[');
+      for (int i = 0; i < records; i++) {
+        writer.write(String.format("%s{\"id\": %d, \"name\": \"record-%d\", \"tags\": [\"a\", \"b\"], \"created\": \"2017-01-01T00:00:00\"}", i > 0 ? "," : "", i, i));
+      }
+      writer.write(']');
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> stream() {
+    return Jsonifier.deserializeFile(file, valueType);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> mapped() {
+    return Jsonifier.deserializeMapped(file, valueType);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> string() throws IOException {
+    return Jsonifier.deserialize(Files.readString(file), valueType);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+
+import jp.furplag.data.json.Profile;
+import jp.furplag.data.json.StripedRecyclerPool;
+
+/**
+ * the pools of buffers, on the pooled platform threads versus a virtual thread per task .
+ * <p>
+ * each operation serializes and deserializes in {@link #tasks} tasks, run with "-prof gc" ( always, using {@link Benchmarks} ) to compare allocation rate .
+ * virtual threads require Java 21 or later .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecyclerPoolBenchmark {
+
+  /** "platform" or "virtual" . */
+  @Param({ "platform", "virtual" })
+  public String threads;
+
+  /** "threadLocal" ( the default of Jackson ), "striped" or "lockFree" . */
+  @Param({ "threadLocal", "striped", "lockFree" })
+  public String pool;
+
+  /** the number of tasks per operation . */
+  @Param({ "1000" })
+  public int tasks;
+
+  private Profile profile;
+
+  private ExecutorService executor;
+
+  private final Map<String, Object> record = Map.of("id", 123456789L, "name", "recycler", "tags", List.of("a", "b", "c"), "text", "x".repeat(4096));
+
+  private String json;
+
+  @Setup(Level.Trial)
+  public void setup() throws ReflectiveOperationException {
+    profile = Profile.strict().recyclerPool("striped".equals(pool) ? new StripedRecyclerPool() : "lockFree".equals(pool) ? JsonRecyclerPools.newLockFreePool() : JsonRecyclerPools.threadLocalPool()).build();
+    executor = "virtual".equals(threads) ? (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null) : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    json = profile.serialize(record);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public long roundTrip() throws InterruptedException, ExecutionException {
+    final List<Future<Integer>> futures = IntStream.range(0, tasks).mapToObj((i) -> executor.submit(() -> profile.serializeToBytes(profile.deserialize(json, Map.class)).length)).collect(Collectors.toList());
+    long written = 0;
+    for (Future<Integer> future : futures) {
+      written += future.get();
+    }
+
+    return written;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.furplag.data.json.Jsonifier;
+import jp.furplag.data.json.Jsonizable;
+
+/**
+ * {@link Jsonizable#transduce(Class, String...)} versus the JSON string round-trip which it used to do .
+ *
+ * @author furplag
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransduceBenchmark {
+
+  public static class Dto implements Jsonizable<Dto> {
+    private final long id = 123456789L;
+    private final String name = "transduce";
+    private final boolean deleted = false;
+    private final LocalDateTime created = LocalDateTime.of(2017, 1, 1, 1, 23, 45);
+    private final List<String> tags = List.of("a", "b", "c");
+  }
+
+  public static class Entity {
+    public long id;
+    public String name;
+    public boolean deleted;
+    public LocalDateTime created;
+    public List<String> tags;
+  }
+
+  private final Dto dto = new Dto();
+
+  @Benchmark
+  public Entity roundTrip() {
+    return Jsonifier.deserialize(dto.json(), Entity.class);
+  }
+
+  @Benchmark
+  public Entity transduce() {
+    return dto.transduce(Entity.class);
+  }
+}
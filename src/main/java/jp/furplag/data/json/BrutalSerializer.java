@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.io.IOException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * serialization for the fields of the object, even if those are private, final, or static .
+ * <p>
+ * writes the same JSON as serializing the {@link java.util.Map} which {@link jp.furplag.sandbox.reflect.SavageReflection#read(Object, String...)} returns,
+ * but reads fields directly using {@link FieldAccessors} which resolved only once per class, without creating the intermediate {@link java.util.Map} .
+ * the fields write through {@link FieldAccessors#write(Object, java.util.Set, JsonGenerator, SerializerProvider)}, the same as transducing .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+final class BrutalSerializer extends StdSerializer<BrutalSerializer.Brutal> {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * the object to serialize brutaly .
+   *
+   * @author furplag
+   *
+   */
+  static final class Brutal {
+
+    /** an object . */
+    private final Object source;
+
+    /**
+     * {@link Brutal} .
+     *
+     * @param source an object, may not be null
+     */
+    Brutal(final Object source) {
+      this.source = source;
+    }
+
+    /**
+     * returns the class of the object .
+     *
+     * @return the class of the object
+     */
+    Class<?> type() {
+      return source.getClass();
+    }
+  }
+
+  /** {@link BrutalSerializer} . */
+  BrutalSerializer() {
+    super(Brutal.class);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void serialize(final Brutal value, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+    FieldAccessors.withStatic(value.type()).write(value.source, Set.of(), generator, provider);
+  }
+}
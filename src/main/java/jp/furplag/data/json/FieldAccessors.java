@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import jp.furplag.sandbox.reflect.Reflections;
+import jp.furplag.sandbox.stream.Streamr;
+import jp.furplag.sandbox.trebuchet.Trebuchet;
+
+/**
+ * the field accessors of the class, which resolved only once per class .
+ * <p>
+ * the fields are the same as {@link jp.furplag.sandbox.reflect.SavageReflection#read(Object, String...)} reads in the same order,
+ * and excluding the names of static fields unless specified .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+final class FieldAccessors {
+
+  /** cache of {@link FieldAccessors} without static fields, which never prevents the class from unloading . */
+  private static final ClassValue<FieldAccessors> instanceFields = new ClassValue<>() {
+    @Override
+    protected FieldAccessors computeValue(final Class<?> type) {
+      return new FieldAccessors(type, false);
+    }
+  };
+
+  /** cache of {@link FieldAccessors} with static fields, which never prevents the class from unloading . */
+  private static final ClassValue<FieldAccessors> allFields = new ClassValue<>() {
+    @Override
+    protected FieldAccessors computeValue(final Class<?> type) {
+      return new FieldAccessors(type, true);
+    }
+  };
+
+  /** the type of getter . */
+  private static final MethodType getterType = MethodType.methodType(Object.class, Object.class);
+
+  /** the names of fields . */
+  private final String[] names;
+
+  /** the fields . */
+  private final Field[] fields;
+
+  /** the getters of fields, the element may be null if the field is not accessible . */
+  private final MethodHandle[] getters;
+
+  /**
+   * {@link FieldAccessors} .
+   *
+   * @param type the class
+   * @param includeStatic includes static fields if true
+   */
+  private FieldAccessors(final Class<?> type, final boolean includeStatic) {
+    final Set<String> staticFieldNames = includeStatic ? Collections.emptySet() : Streamr.stream(Reflections.getFields(type)).filter(Reflections::isStatic).map(Field::getName).collect(Collectors.toSet());
+    final Map<String, Field> fields = new LinkedHashMap<>();
+    Streamr.stream(Reflections.getFields(type)).filter((field) -> !staticFieldNames.contains(field.getName())).forEach((field) -> fields.putIfAbsent(field.getName(), field));
+    this.names = fields.keySet().toArray(String[]::new);
+    this.fields = fields.values().toArray(Field[]::new);
+    this.getters = Streamr.stream(this.fields).map(FieldAccessors::getter).toArray(MethodHandle[]::new);
+  }
+
+  /**
+   * returns the field accessors of the class, excluding static fields .
+   *
+   * @param type the class
+   * @return {@link FieldAccessors}
+   */
+  static FieldAccessors of(final Class<?> type) {
+    return instanceFields.get(type);
+  }
+
+  /**
+   * returns the field accessors of the class, including static fields .
+   *
+   * @param type the class
+   * @return {@link FieldAccessors}
+   */
+  static FieldAccessors withStatic(final Class<?> type) {
+    return allFields.get(type);
+  }
+
+  /**
+   * DRY : returns the getter of the field .
+   *
+   * @param field {@link Field}
+   * @return the getter, or null if the field is not accessible
+   */
+  private static MethodHandle getter(final Field field) {
+    return Trebuchet.Functions.orNot(field, (_field) -> !_field.trySetAccessible() ? null : Reflections.isStatic(_field) ? MethodHandles.dropArguments(MethodHandles.lookup().unreflectGetter(_field), 0, Object.class).asType(getterType) : MethodHandles.lookup().unreflectGetter(_field).asType(getterType));
+  }
+
+  /**
+   * returns the number of fields .
+   *
+   * @return the number of fields
+   */
+  int size() {
+    return names.length;
+  }
+
+  /**
+   * returns the name of field .
+   *
+   * @param index the index of field
+   * @return the name of field
+   */
+  String name(final int index) {
+    return names[index];
+  }
+
+  /**
+   * returns the field .
+   *
+   * @param index the index of field
+   * @return {@link Field}
+   */
+  Field field(final int index) {
+    return fields[index];
+  }
+
+  /**
+   * returns the value of the field .
+   *
+   * @param index the index of field
+   * @param instance an instance of the class
+   * @return the value of the field, or null if the field is not accessible
+   */
+  Object get(final int index, final Object instance) {
+    try {
+      return getters[index] == null ? null : (Object) getters[index].invokeExact(instance);
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  /**
+   * returns the values of fields .
+   *
+   * @param instance an instance of the class
+   * @return {@link Map} ( {@link String} field name : {@link Object} value )
+   */
+  Map<String, Object> read(final Object instance) {
+    return read(instance, Collections.emptySet());
+  }
+
+  /**
+   * returns the values of fields .
+   *
+   * @param instance an instance of the class
+   * @param excludeFieldNames field name (s) to be excludes
+   * @return {@link Map} ( {@link String} field name : {@link Object} value )
+   */
+  Map<String, Object> read(final Object instance, final Set<String> excludeFieldNames) {
+    final Map<String, Object> values = new LinkedHashMap<>(Math.max(16, (int) (names.length / .75f) + 1));
+    for (int i = 0; i < names.length; i++) {
+      if (excludeFieldNames.isEmpty() || !excludeFieldNames.contains(names[i])) {
+        values.put(names[i], get(i, instance));
+      }
+    }
+
+    return values;
+  }
+
+  /**
+   * write the values of fields as a JSON object, skipping the values which empty, like as a {@link Map} of the values serializes .
+   * <p>
+   * the value of each field serializes using the serializer which the mapper caches, as the same as the content of {@link Map} .
+   * </p>
+   *
+   * @param instance an instance of the class
+   * @param excludeFieldNames field name (s) to be excludes
+   * @param generator {@link JsonGenerator}
+   * @param provider {@link SerializerProvider} which finds the serializer of each value
+   * @throws IOException if error occured
+   */
+  void write(final Object instance, final Set<String> excludeFieldNames, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+    generator.writeStartObject(instance);
+    for (int i = 0; i < names.length; i++) {
+      final Object value = excludeFieldNames.contains(names[i]) ? null : get(i, instance);
+      final JsonSerializer<Object> serializer = value == null ? null : provider.findContentValueSerializer(value.getClass(), null);
+      if (serializer != null && !serializer.isEmpty(provider, value)) {
+        generator.writeFieldName(names[i]);
+        serializer.serialize(value, generator, provider);
+      }
+    }
+    generator.writeEndObject();
+  }
+}
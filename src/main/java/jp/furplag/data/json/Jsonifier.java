@@ -16,32 +16,33 @@
 package jp.furplag.data.json;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonFactoryBuilder;
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
-
-import jp.furplag.data.json.deser.LenientlyLocalDateTimeDeserializer;
-import jp.furplag.sandbox.reflect.SavageReflection;
+
+import jp.furplag.data.json.metrics.Listener;
+import jp.furplag.data.json.stream.ChunkedReader;
+import jp.furplag.data.json.stream.ChunkedWriter;
+import jp.furplag.data.json.stream.Framing;
+import jp.furplag.data.json.stream.OnFailure;
 import jp.furplag.sandbox.trebuchet.Trebuchet;
 
 /**
@@ -52,108 +53,23 @@ import jp.furplag.sandbox.trebuchet.Trebuchet;
  */
 public interface Jsonifier {
 
-  /** lazy initialization for {@link ObjectMapper#ObjectMapper()} . */
+  /** lazy initialization for the default {@link Profile} . */
   static final class Shell {
 
-    /** {@link ObjectMapper#ObjectMapper()} . */
-    private static final ObjectMapper mapper;
-    static {/* @formatter:off */
-      mapper = new ObjectMapper(new JsonFactoryBuilder()
-        // Allow /** comment */ .
-        .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
-        // Allow # comment .
-        .enable(JsonReadFeature.ALLOW_YAML_COMMENTS)
-        // Allow "{"key": "value"... , }" .
-        .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
-        // Allow "{'key': 'value'}" .
-        .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
-        // Allow "{key: "value"}" .
-        .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
-        .build()
-      )
-
-      // @formatter:off
-      .registerModules(
-        new ParameterNamesModule()
-      , new Jdk8Module()
-      , new JavaTimeModule().addDeserializer(LocalDateTime.class, new LenientlyLocalDateTimeDeserializer())
-      )
-      .configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
-      .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
-      // Allow "{key: "value"}" .
-      .configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true)
-      // sort by key name .
-      // .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
-
-      // pretty print for Date/Time .
-      .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
-      // against failure if no fields .
-      .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
-      // against failure if undefined field .
-      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-      .configure(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, false)
-      // igonre empty field .
-      .setDefaultPropertyInclusion(JsonInclude.Include.NON_EMPTY)
-      // @formatter:on
-      ;
-    }
-
-    /**
-     * create the instance of specified class represented by the JSON String .
-     *
-     * @param <T> the type of instance
-     * @param content a text which maybe JSON formatted
-     * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
-     * @return an instance of T
-     * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
-     * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
-     */
-    @SuppressWarnings({ "unchecked" })
-    private static <T> T deserialize(final String content, final Object valueType) throws JsonProcessingException, IOException {
-      return content == null || !Stream.of((Predicate<Object>) Shell::isClass, Shell::isTypeReference, Shell::isJavaType).anyMatch((t) -> t.test(valueType)) ? null
-          : isJavaType(valueType) ? mapper.readValue(content, (JavaType) valueType) : isTypeReference(valueType) ? mapper.readValue(content, (TypeReference<T>) valueType) : mapper.readValue(content, (Class<T>) valueType);
-    }
-
-    /**
-     * DRY : test if the object is any of {@link Class} .
-     *
-     * @param mysterio the object which probably the type of {@link Class}
-     * @return true if the object is any of {@link Class}
-     */
-    private static boolean isClass(final Object mysterio) {
-      return mysterio instanceof Class;
-    }
-
-    /**
-     * DRY : test if the object is any of {@link JavaType} .
-     *
-     * @param mysterio the object which probably the type of {@link JavaType}
-     * @return true if the object is any of {@link JavaType}
-     */
-    private static boolean isJavaType(final Object mysterio) {
-      return mysterio != null && JavaType.class.isAssignableFrom(mysterio.getClass());
-    }
-
-    /**
-     * DRY : test if the object is any of {@link TypeReference} .
-     *
-     * @param mysterio the object which probably the type of {@link TypeReference}
-     * @return true if the object is any of {@link TypeReference}
-     */
-    private static boolean isTypeReference(final Object mysterio) {
-      return mysterio != null && TypeReference.class.isAssignableFrom(mysterio.getClass());
-    }
-
-    /**
-     * stringify specified object .
-     *
-     * @param source an object
-     * @return JSON string
-     * @throws JsonProcessingException if error occured
-     */
-    private static String serialize(final Object source) throws JsonProcessingException {
-      return source == null ? null : mapper.writeValueAsString(source);
-    }
+    /** the size of cache for lenient date-time parse results, specified by the system property "jsonifier.localDateTimeCacheSize" ( never caches by default ) . */
+    static final int localDateTimeCacheSize = Integer.getInteger("jsonifier.localDateTimeCacheSize", 0);
+
+    /** generates accessors of properties instead of reflection, specified by the system property "jsonifier.blackbird" ( uses reflection by default ) . */
+    static final boolean blackbird = Boolean.getBoolean("jsonifier.blackbird");
+
+    /** the listener which provided through {@link ServiceLoader} ( nothing reports by default ) . */
+    static final Listener listener = Trebuchet.Functions.orNot(Listener.class, (_class) -> ServiceLoader.load(_class).findFirst().orElse(null));
+
+    /** shares the buffers between threads, specified by the system property "jsonifier.stripedRecyclerPool" ( the buffers per thread by default ) . */
+    static final boolean stripedRecyclerPool = Boolean.getBoolean("jsonifier.stripedRecyclerPool");
+
+    /** the default profile, which is lenient . */
+    static final Profile profile = Profile.lenient().localDateTimeCacheSize(localDateTimeCacheSize).blackbird(blackbird).listener(listener).recyclerPool(stripedRecyclerPool ? new StripedRecyclerPool() : null).build();
   }
 
   /**
@@ -165,7 +81,7 @@ public interface Jsonifier {
    * @return an instance of T, or null if error occurs
    */
   static <T> T deserialize(final String content, final Object valueType) {
-    return Trebuchet.Functions.orNot(content, valueType, Shell::deserialize);
+    return Shell.profile.deserialize(content, valueType);
   }
 
   /**
@@ -177,7 +93,125 @@ public interface Jsonifier {
    * @return an instance of T, or null if error occurs
    */
   static <T> T deserialize(final String content, final TypeReference<T> valueType) {
-    return Trebuchet.Functions.orNot(content, valueType, Shell::deserialize);
+    return Shell.profile.deserialize(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON .
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  static <T> T deserializeBytes(final byte[] content, final int offset, final int length, final Object valueType) {
+    return Shell.profile.deserializeBytes(content, offset, length, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON String, or the reason why failed without any exception .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) rejects without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link Result}
+   */
+  static <T> Result<T> tryDeserialize(final String content, final Object valueType) {
+    return Shell.profile.tryDeserialize(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON String, or the reason why failed without any exception .
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link TypeReference}
+   * @return {@link Result}
+   */
+  static <T> Result<T> tryDeserialize(final String content, final TypeReference<T> valueType) {
+    return Shell.profile.tryDeserialize(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON, or the reason why failed without any exception .
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link Result}
+   */
+  static <T> Result<T> tryDeserializeBytes(final byte[] content, final int offset, final int length, final Object valueType) {
+    return Shell.profile.tryDeserializeBytes(content, offset, length, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON, the position of the buffer never changes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link ByteBuffer} which remaining maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  static <T> T deserializeBuffer(final ByteBuffer content, final Object valueType) {
+    return Shell.profile.deserializeBuffer(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  static <T> T deserializeStream(final InputStream content, final Object valueType) {
+    return Shell.profile.deserializeStream(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Reader} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  static <T> T deserializeStream(final Reader content, final Object valueType) {
+    return Shell.profile.deserializeStream(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  static <T> T deserializeFile(final Path content, final Object valueType) {
+    return Shell.profile.deserializeFile(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file, which reads through memory-mapped windows .
+   * <p>
+   * the file never copies into the heap as a whole, and the file which larger than 2 GB maps window by window .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  static <T> T deserializeMapped(final Path content, final Object valueType) {
+    return Shell.profile.deserializeMapped(content, valueType);
   }
 
   /**
@@ -189,7 +223,7 @@ public interface Jsonifier {
    * @return an instance of T, or null if error occurs
    */
   static <T> T deserializeStrictly(final String content, final Object valueType) throws JsonProcessingException, IOException {
-    return Shell.deserialize(content, valueType);
+    return Shell.profile.deserializeStrictly(content, valueType);
   }
 
   /**
@@ -201,30 +235,486 @@ public interface Jsonifier {
    * @return an instance of T, or null if error occurs
    */
   static <T> T deserializeStrictly(final String content, final TypeReference<T> valueType) throws JsonProcessingException, IOException {
-    return Shell.deserialize(content, valueType);
+    return Shell.profile.deserializeStrictly(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON .
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  static <T> T deserializeBytesStrictly(final byte[] content, final int offset, final int length, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.deserializeBytesStrictly(content, offset, length, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON, the position of the buffer never changes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link ByteBuffer} which remaining maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  static <T> T deserializeBufferStrictly(final ByteBuffer content, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.deserializeBufferStrictly(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  static <T> T deserializeStreamStrictly(final InputStream content, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.deserializeStreamStrictly(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Reader} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  static <T> T deserializeStreamStrictly(final Reader content, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.deserializeStreamStrictly(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  static <T> T deserializeFileStrictly(final Path content, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.deserializeFileStrictly(content, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file, which reads through memory-mapped windows .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  static <T> T deserializeMappedStrictly(final Path content, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.deserializeMappedStrictly(content, valueType);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines, the stream never closes .
+   * <p>
+   * the record which failed to deserialize turns into null .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link InputStream} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records
+   */
+  static <T> Stream<T> lines(final InputStream content, final Object valueType) {
+    return Shell.profile.lines(content, valueType);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines, the stream never closes .
+   *
+   * @param <T> the type of record
+   * @param content {@link InputStream} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param onFailure how to handle the record which failed to deserialize
+   * @return the stream of records
+   */
+  static <T> Stream<T> lines(final InputStream content, final Object valueType, final OnFailure onFailure) {
+    return Shell.profile.lines(content, valueType, onFailure);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines file, the file closes when the stream closed .
+   * <p>
+   * the record which failed to deserialize turns into null, and returns empty if the file could not open .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records
+   */
+  static <T> Stream<T> lines(final Path content, final Object valueType) {
+    return Shell.profile.lines(content, valueType);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines file, the file closes when the stream closed .
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param onFailure how to handle the record which failed to deserialize, and raises {@link UncheckedIOException} if {@link OnFailure#THROW} and the file could not open
+   * @return the stream of records
+   */
+  static <T> Stream<T> lines(final Path content, final Object valueType, final OnFailure onFailure) {
+    return Shell.profile.lines(content, valueType, onFailure);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines, the stream never closes .
+   *
+   * @param <T> the type of record
+   * @param content {@link InputStream} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records, which raises {@link UncheckedIOException} if the record failed to deserialize
+   */
+  static <T> Stream<T> linesStrictly(final InputStream content, final Object valueType) {
+    return Shell.profile.linesStrictly(content, valueType);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines file, the file closes when the stream closed .
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records, which raises {@link UncheckedIOException} if the record failed to deserialize
+   * @throws IOException if the file could not open
+   */
+  static <T> Stream<T> linesStrictly(final Path content, final Object valueType) throws IOException {
+    return Shell.profile.linesStrictly(content, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the top-level array, the stream never closes .
+   *
+   * @param <T> the type of element
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, the element which failed to deserialize turns into null
+   * @see #elements(InputStream, String, Object)
+   */
+  static <T> Stream<T> elements(final InputStream content, final Object valueType) {
+    return Shell.profile.elements(content, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points, the stream never closes .
+   * <p>
+   * only one element materializes at a time, the element which failed to deserialize turns into null,
+   * and the stream ends at the broken JSON, or returns empty if the array not found .
+   * </p>
+   *
+   * @param <T> the type of element
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements
+   */
+  static <T> Stream<T> elements(final InputStream content, final String pointer, final Object valueType) {
+    return Shell.profile.elements(content, pointer, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the top-level array in the file, the file closes when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, the element which failed to deserialize turns into null
+   * @see #elements(InputStream, String, Object)
+   */
+  static <T> Stream<T> elements(final Path content, final Object valueType) {
+    return Shell.profile.elements(content, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points in the file, the file closes when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, or empty if the file could not open
+   * @see #elements(InputStream, String, Object)
+   */
+  static <T> Stream<T> elements(final Path content, final String pointer, final Object valueType) {
+    return Shell.profile.elements(content, pointer, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points, the stream never closes .
+   *
+   * @param <T> the type of element
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, which raises {@link UncheckedIOException} if the array not found or the element failed to deserialize
+   * @throws IOException if a low-level I/O problem occurs
+   */
+  static <T> Stream<T> elementsStrictly(final InputStream content, final String pointer, final Object valueType) throws IOException {
+    return Shell.profile.elementsStrictly(content, pointer, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points in the file, the file closes when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, which raises {@link UncheckedIOException} if the array not found or the element failed to deserialize
+   * @throws IOException if the file could not open
+   */
+  static <T> Stream<T> elementsStrictly(final Path content, final String pointer, final Object valueType) throws IOException {
+    return Shell.profile.elementsStrictly(content, pointer, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the JSON String .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found or error occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  static <T> T extract(final String content, final String pointer, final Object valueType) {
+    return Shell.profile.extract(content, pointer, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the UTF-8 encoded JSON .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found or error occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  static <T> T extract(final byte[] content, final int offset, final int length, final String pointer, final Object valueType) {
+    return Shell.profile.extract(content, offset, length, pointer, valueType);
   }
 
   /**
-   * JSON stringify error .
+   * create the instance of specified class represented by the value which the pointer points in the JSON stream, the stream never closes .
    *
-   * @param error anything thrown
-   * @return JSON stringify error
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found or error occurs
+   * @see #extractStrictly(String, String, Object)
    */
-  private static <EX extends Throwable> String failureReport(final EX error) {
-    return Trebuchet.Functions.orElse(wrappingFailureReport(propertalizedException(error)), Shell::serialize, () -> "{}");
+  static <T> T extract(final InputStream content, final String pointer, final Object valueType) {
+    return Shell.profile.extract(content, pointer, valueType);
   }
 
   /**
-   * JSON stringify error .
+   * create the instance of specified class represented by the value which the pointer points in the JSON String .
+   * <p>
+   * only the value binds, every subtree which not on the path skips without binding, and the content after the value never reads .
+   * </p>
    *
-   * @param error anything thrown
-   * @return JSON stringify error
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found
+   * @throws IllegalArgumentException if the pointer is not a valid JSON Pointer
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
    */
-  private static <EX extends Throwable> Map<String, String> propertalizedException(final EX error) {/* @formatter:off */
-    return new LinkedHashMap<>() {{
-      Optional.ofNullable(error).ifPresent(((Consumer<EX>) (_error) -> put("error", _error.getClass().getName())).andThen((_error) -> put("message", _error.getMessage())));
-    }};
-  /* @formatter:on */}
+  static <T> T extractStrictly(final String content, final String pointer, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.extractStrictly(content, pointer, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the UTF-8 encoded JSON .
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found
+   * @throws IllegalArgumentException if the pointer is not a valid JSON Pointer
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  static <T> T extractStrictly(final byte[] content, final int offset, final int length, final String pointer, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.extractStrictly(content, offset, length, pointer, valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found
+   * @throws IllegalArgumentException if the pointer is not a valid JSON Pointer
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  static <T> T extractStrictly(final InputStream content, final String pointer, final Object valueType) throws JsonProcessingException, IOException {
+    return Shell.profile.extractStrictly(content, pointer, valueType);
+  }
+
+  /**
+   * compile the JSON Pointers into {@link Projection}, which extracts all of the values in one pass, each value binds as {@link Object} .
+   *
+   * @param pointers JSON Pointers of the values ( e.g. "/header/eventType" ), the root if null or empty
+   * @return {@link Projection} which results the array of values in the order of pointers
+   * @throws IllegalArgumentException if any of pointers is not a valid JSON Pointer
+   */
+  static Projection<Object[]> projection(final String... pointers) {
+    return Shell.profile.projection(pointers);
+  }
+
+  /**
+   * compile the JSON Pointers into {@link Projection}, which extracts all of the values in one pass .
+   *
+   * @param pointers JSON Pointers of the values ( e.g. "/header/eventType" ), and the type of each value,
+   * {@link Class} or an instance of {@link JavaType} or {@link TypeReference}, in the order of iteration
+   * @return {@link Projection} which results the array of values in the order of pointers
+   * @throws IllegalArgumentException if any of pointers is not a valid JSON Pointer, or any of types is not any of those
+   */
+  static Projection<Object[]> projection(final Map<String, ?> pointers) {
+    return Shell.profile.projection(pointers);
+  }
+
+  /**
+   * returns {@link ChunkedReader} which deserializes the instance of specified class from the chunks of UTF-8 encoded JSON as they arrive .
+   *
+   * @param <T> the type of instance
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link ChunkedReader}, which the result completes with null if the type is not any of those
+   */
+  static <T> ChunkedReader<T> deserializeAsync(final Object valueType) {
+    return Shell.profile.deserializeAsync(valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the chunks of UTF-8 encoded JSON, without blocking .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Flow.Publisher} of chunks
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link CompletableFuture} which completes with an instance of T, or completes exceptionally if error occurs
+   */
+  static <T> CompletableFuture<T> deserializeAsync(final Flow.Publisher<ByteBuffer> content, final Object valueType) {
+    return Shell.profile.deserializeAsync(content, valueType);
+  }
+
+  /**
+   * returns {@link Flow.Publisher} of records represented by the chunks of UTF-8 encoded JSON Lines ( or the values separated by whitespace ) .
+   *
+   * @param <T> the type of record
+   * @param content {@link Flow.Publisher} of chunks
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link Flow.Publisher} of records
+   */
+  static <T> Flow.Publisher<T> linesAsync(final Flow.Publisher<ByteBuffer> content, final Object valueType) {
+    return Shell.profile.linesAsync(content, valueType);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines, the record which failed to deserialize turns into null .
+   *
+   * @param <T> the type of record
+   * @param content {@link ByteBuffer} of JSON Lines, reads the remaining bytes
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @return the parallel stream of records
+   * @see #linesParallel(ByteBuffer, Object, boolean, OnFailure)
+   */
+  static <T> Stream<T> linesParallel(final ByteBuffer content, final Object valueType, final boolean ordered) {
+    return Shell.profile.linesParallel(content, valueType, ordered);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines .
+   * <p>
+   * the content splits into the chunks on the end of line, and each chunk parses on the fork-join pool .
+   * the position and the limit of the buffer never change .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link ByteBuffer} of JSON Lines, reads the remaining bytes
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @param onFailure how to handle the record which failed to deserialize
+   * @return the parallel stream of records
+   */
+  static <T> Stream<T> linesParallel(final ByteBuffer content, final Object valueType, final boolean ordered, final OnFailure onFailure) {
+    return Shell.profile.linesParallel(content, valueType, ordered, onFailure);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines file, the record which failed to deserialize turns into null .
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @return the parallel stream of records, or empty if the file could not open
+   * @see #linesParallel(Path, Object, boolean, OnFailure)
+   */
+  static <T> Stream<T> linesParallel(final Path content, final Object valueType, final boolean ordered) {
+    return Shell.profile.linesParallel(content, valueType, ordered);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines file, the file maps into the memory .
+   * <p>
+   * the file splits into the chunks on the end of line, and each chunk parses on the fork-join pool .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @param onFailure how to handle the record which failed to deserialize, and raises {@link UncheckedIOException} if {@link OnFailure#THROW} and the file could not open
+   * @return the parallel stream of records
+   */
+  static <T> Stream<T> linesParallel(final Path content, final Object valueType, final boolean ordered, final OnFailure onFailure) {
+    return Shell.profile.linesParallel(content, valueType, ordered, onFailure);
+  }
 
   /**
    * JSON stringify specified object, or null if error occurs .
@@ -233,9 +723,40 @@ public interface Jsonifier {
    * @return JSON stringify specified object, or null if error occurs
    */
   static String serialize(final Object source) {
-    // @formatter:off
-    return Trebuchet.Functions.orNot(source, Shell::serialize);
-    // @formatter:on
+    return Shell.profile.serialize(source);
+  }
+
+  /**
+   * write specified object as UTF-8 encoded JSON, the stream never closes .
+   *
+   * @param source an object
+   * @param destination {@link OutputStream}
+   * @return true if the object has written, or false if error occurs
+   */
+  static boolean serialize(final Object source, final OutputStream destination) {
+    return Shell.profile.serialize(source, destination);
+  }
+
+  /**
+   * write specified object as JSON, the stream never closes .
+   *
+   * @param source an object
+   * @param destination {@link Writer}
+   * @return true if the object has written, or false if error occurs
+   */
+  static boolean serialize(final Object source, final Writer destination) {
+    return Shell.profile.serialize(source, destination);
+  }
+
+  /**
+   * write specified object to the file as UTF-8 encoded JSON .
+   *
+   * @param source an object
+   * @param destination {@link Path} of the file, create or truncate it
+   * @return true if the object has written, or false if error occurs
+   */
+  static boolean serialize(final Object source, final Path destination) {
+    return Shell.profile.serialize(source, destination);
   }
 
   /**
@@ -248,9 +769,7 @@ public interface Jsonifier {
    * @return JSON stringify specified object, or null if error occurs
    */
   static String serializeBrutaly(final Object source) {
-    // @formatter:off
-    return Trebuchet.Functions.orNot(SavageReflection.read(source), Shell::serialize);
-    // @formatter:on
+    return Shell.profile.serializeBrutaly(source);
   }
 
   /**
@@ -269,7 +788,58 @@ public interface Jsonifier {
    * @return JSON stringify specified object, or error
    */
   static Object serializeOrFailure(final Object source) {
-    return Trebuchet.Functions.orElse(source, Shell::serialize, (t, e) -> failureReport(e));
+    return Shell.profile.serializeOrFailure(source);
+  }
+
+  /**
+   * JSON stringify each object in parallel using {@link ForkJoinPool#commonPool()} .
+   *
+   * @param sources the objects
+   * @return JSON strings in the order of input, or error report like {@link #serializeOrFailure(Object)} for each object which failed to serialize
+   */
+  static List<String> serializeAll(final Collection<?> sources) {
+    return Shell.profile.serializeAll(sources);
+  }
+
+  /**
+   * JSON stringify each object in parallel .
+   *
+   * @param sources the objects
+   * @param executor {@link Executor}
+   * @return JSON strings in the order of input, or error report like {@link #serializeOrFailure(Object)} for each object which failed to serialize
+   */
+  static List<String> serializeAll(final Collection<?> sources, final Executor executor) {
+    return Shell.profile.serializeAll(sources, executor);
+  }
+
+  /**
+   * JSON stringify each object in parallel using {@link ForkJoinPool#commonPool()}, and write them in the order of input, the stream never closes .
+   *
+   * @param sources the objects
+   * @param destination {@link OutputStream}
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @return the number of objects which written
+   * @throws IOException if error occured
+   */
+  static long serializeAll(final Collection<?> sources, final OutputStream destination, final Framing framing) throws IOException {
+    return Shell.profile.serializeAll(sources, destination, framing);
+  }
+
+  /**
+   * JSON stringify each object in parallel, and write them in the order of input, the stream never closes .
+   * <p>
+   * null turns into "null", and each object which failed to serialize turns into error report like {@link #serializeOrFailure(Object)} .
+   * </p>
+   *
+   * @param sources the objects
+   * @param executor {@link Executor}
+   * @param destination {@link OutputStream}
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @return the number of objects which written
+   * @throws IOException if error occured
+   */
+  static long serializeAll(final Collection<?> sources, final Executor executor, final OutputStream destination, final Framing framing) throws IOException {
+    return Shell.profile.serializeAll(sources, executor, destination, framing);
   }
 
   /**
@@ -280,18 +850,138 @@ public interface Jsonifier {
    * @throws JsonProcessingException if error occured
    */
   static String serializeStrictly(final Object source) throws JsonProcessingException {
-    return Shell.serialize(source);
+    return Shell.profile.serializeStrictly(source);
   }
 
   /**
-   * JSON stringify error .
+   * write specified object as UTF-8 encoded JSON, the stream never closes .
    *
-   * @param error anything thrown
-   * @return JSON stringify error
+   * @param source an object
+   * @param destination {@link OutputStream}
+   * @return true if the object has written
+   * @throws IOException if error occured
    */
-  private static Map<String, Map<String, String>> wrappingFailureReport(final Map<String, String> error) {/* @formatter:off */
-    return new HashMap<>() {{
-      Optional.ofNullable(error).ifPresent((_error) -> put("jsonifier.serializationFailure", _error));
-    }};
-  /* @formatter:on */}
+  static boolean serializeStrictly(final Object source, final OutputStream destination) throws IOException {
+    return Shell.profile.serializeStrictly(source, destination);
+  }
+
+  /**
+   * write specified object as JSON, the stream never closes .
+   *
+   * @param source an object
+   * @param destination {@link Writer}
+   * @return true if the object has written
+   * @throws IOException if error occured
+   */
+  static boolean serializeStrictly(final Object source, final Writer destination) throws IOException {
+    return Shell.profile.serializeStrictly(source, destination);
+  }
+
+  /**
+   * write specified object to the file as UTF-8 encoded JSON .
+   *
+   * @param source an object
+   * @param destination {@link Path} of the file, create or truncate it
+   * @return true if the object has written
+   * @throws IOException if error occured
+   */
+  static boolean serializeStrictly(final Object source, final Path destination) throws IOException {
+    return Shell.profile.serializeStrictly(source, destination);
+  }
+
+  /**
+   * write the records as UTF-8 encoded JSON Lines using single generator, the stream never closes .
+   *
+   * @param source the records, null turns into "null"
+   * @param destination {@link OutputStream}
+   * @return the number of records which written
+   * @throws IOException if error occured
+   */
+  static long writeLines(final Stream<?> source, final OutputStream destination) throws IOException {
+    return Shell.profile.writeLines(source, destination);
+  }
+
+  /**
+   * returns {@link ChunkedWriter} which serializes the objects into the chunks of UTF-8 encoded JSON, 8 KiB each, and emits the chunk not filled up in 100 milliseconds .
+   *
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @return {@link ChunkedWriter}, subscribe it to the objects, and then subscribe to it
+   */
+  static ChunkedWriter serializeAsync(final Framing framing) {
+    return Shell.profile.serializeAsync(framing);
+  }
+
+  /**
+   * returns {@link ChunkedWriter} which serializes the objects into the chunks of UTF-8 encoded JSON .
+   * <p>
+   * the object requests only when the subscriber demands more chunks, so that the chunks in memory bounded by the size of chunk, not by the number of objects .
+   * </p>
+   *
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @param chunkSize the capacity of chunk in bytes
+   * @param flushInterval the interval to emit the chunk which not filled up, never flush by time if null, zero or negative
+   * @return {@link ChunkedWriter}, subscribe it to the objects, and then subscribe to it
+   * @throws IllegalArgumentException if the size of chunk is not positive
+   */
+  static ChunkedWriter serializeAsync(final Framing framing, final int chunkSize, final Duration flushInterval) {
+    return Shell.profile.serializeAsync(framing, chunkSize, flushInterval);
+  }
+
+  /**
+   * JSON stringify specified object as UTF-8 encoded bytes, or null if error occurs .
+   *
+   * @param source an object
+   * @return UTF-8 encoded JSON, or null if error occurs
+   */
+  static byte[] serializeToBytes(final Object source) {
+    return Shell.profile.serializeToBytes(source);
+  }
+
+  /**
+   * JSON stringify specified object as UTF-8 encoded bytes, or error report like {@link #serializeOrFailure(Object)} if error occurs .
+   *
+   * @param source an object
+   * @return UTF-8 encoded JSON, or error
+   */
+  static byte[] serializeToBytesOrFailure(final Object source) {
+    return Shell.profile.serializeToBytesOrFailure(source);
+  }
+
+  /**
+   * stringify specified object as UTF-8 encoded bytes .
+   *
+   * @param source an object
+   * @return UTF-8 encoded JSON
+   * @throws JsonProcessingException if error occured
+   */
+  static byte[] serializeToBytesStrictly(final Object source) throws JsonProcessingException {
+    return Shell.profile.serializeToBytesStrictly(source);
+  }
+
+  /**
+   * returns the number of lenient date-time parse results which found in the cache, which sized by the system property "jsonifier.localDateTimeCacheSize" .
+   *
+   * @return the number of cache hits, or zero if not cached
+   */
+  static long localDateTimeCacheHits() {
+    return Shell.profile.localDateTimeCacheHits();
+  }
+
+  /**
+   * returns the number of lenient date-time parse results which not found in the cache, which sized by the system property "jsonifier.localDateTimeCacheSize" .
+   *
+   * @return the number of cache misses, or zero if not cached
+   */
+  static long localDateTimeCacheMisses() {
+    return Shell.profile.localDateTimeCacheMisses();
+  }
+
+  /**
+   * returns the listener which provided through {@link ServiceLoader}, to read the statistics which {@link Jsonifier} reported .
+   *
+   * @return {@link Listener}, or null if not provided
+   */
+  static Listener listener() {
+    return Shell.profile.listener();
+  }
 }
@@ -15,14 +15,10 @@
  */
 package jp.furplag.data.json;
 
-import java.lang.reflect.Field;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 
-import jp.furplag.sandbox.reflect.Reflections;
-import jp.furplag.sandbox.reflect.SavageReflection;
 import jp.furplag.sandbox.stream.Streamr;
 import jp.furplag.sandbox.trebuchet.Trebuchet;
 
@@ -50,7 +46,7 @@ public interface Jsonizable<T> {
    * @return {@link Map} ( {@link String} key : {@link Object} value )
    */
   default Map<String, Object> map() {
-    return SavageReflection.read(this, Streamr.stream(Reflections.getFields(this)).filter(Reflections::isStatic).map(Field::getName).toArray(String[]::new));
+    return FieldAccessors.of(getClass()).read(this);
   }
 
   /**
@@ -62,7 +58,7 @@ public interface Jsonizable<T> {
    * @return an instance of {@code deserializeType}
    */
   default <R> R transduce(Class<R> deserializeType, String... excludeFieldNames) {
-    return Jsonifier.deserialize(json(), deserializeType);
+    return deserializeType == null ? null : Trebuchet.Functions.orNot(this, (_this) -> Jsonifier.Shell.profile.transduce(_this, FieldAccessors.withStatic(_this.getClass()), _excludeFieldNameSet(excludeFieldNames), deserializeType));
   }
 
   /**
@@ -90,18 +86,6 @@ public interface Jsonizable<T> {
     return Streamr.collect(HashSet::new, excludeFieldNames);
   }
 
-  /**
-   * filtering to parameter for update .
-   *
-   * @param <U> the type of {@link Jsonizable} one
-   * @param source the class of object to materialize, may not be null
-   * @param excludeFieldNames field name (s) to be excludes
-   * @return update parameter represented by the type of {@link Map.Entry}
-   */
-  private static <U extends Jsonizable<?>> Stream<Map.Entry<String, Object>> _filter(final U source, Set<String> excludeFieldNames) {
-    return Streamr.Filter.filtering(source.map().entrySet(), (_parameter) -> !excludeFieldNames.contains(_parameter.getKey()));
-  }
-
   /**
    * set parameter from source object, if those are convertible .
    *
@@ -111,6 +95,6 @@ public interface Jsonizable<T> {
    * @param excludeFieldNames field name (s) to be excludes
    */
   private static <T, U extends Jsonizable<?>> void _set(final T _this, final U source, Set<String> excludeFieldNames) {
-    _filter(source, excludeFieldNames).forEach((_parameter) -> SavageReflection.set(_this, _parameter.getKey(), _parameter.getValue()));
+    Merger.of(source.getClass(), _this.getClass(), excludeFieldNames).merge(source, _this);
   }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.furplag.sandbox.reflect.Reflections;
+import jp.furplag.sandbox.stream.Streamr;
+import jp.furplag.sandbox.trebuchet.Trebuchet;
+
+/**
+ * the plan to set parameters from the source into the target, which resolved only once per classes and field name (s) to be excludes .
+ * <p>
+ * the fields are the same as {@link jp.furplag.sandbox.reflect.SavageReflection#set(Object, String, Object)} sets :
+ * the instance fields of source, and the first field which has the same name of target, even if the field is static .
+ * the pair of fields which never be convertible drops from the plan, and the value which not convertible is ignored .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+final class Merger {
+
+  /** the number of plans per pair of classes, plans are not cached more than this . */
+  private static final int maxPlans = 64;
+
+  /** cache of {@link Merger}, keyed by the class of source, the class of target and then field name (s) to be excludes . */
+  private static final ClassValue<ClassValue<Map<Set<String>, Merger>>> mergers = new ClassValue<>() {
+    @Override
+    protected ClassValue<Map<Set<String>, Merger>> computeValue(final Class<?> sourceType) {
+      return new ClassValue<>() {
+        @Override
+        protected Map<Set<String>, Merger> computeValue(final Class<?> targetType) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+    }
+  };
+
+  /** the type of setter . */
+  private static final MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+
+  /** the type of {@link Field#set(Object, Object)} . */
+  private static final MethodHandle fieldSet = Trebuchet.Functions.orNot(Field.class, (_class) -> MethodHandles.lookup().findVirtual(_class, "set", setterType));
+
+  /** primitive types, excepts void . */
+  private static final Class<?>[] primitiveTypes = { boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class };
+
+  /** wrapper types, in the same order of {@link #primitiveTypes} . */
+  private static final Class<?>[] wrapperTypes = { Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class, Float.class, Double.class };
+
+  /** the fields of source . */
+  private final FieldAccessors accessors;
+
+  /** the index of source fields . */
+  private final int[] sources;
+
+  /** the setters of target fields . */
+  private final MethodHandle[] setters;
+
+  /** the target field is primitive, so that null could not set . */
+  private final boolean[] primitives;
+
+  /**
+   * {@link Merger} .
+   *
+   * @param sourceType the class of source
+   * @param targetType the class of target
+   * @param excludeFieldNames field name (s) to be excludes
+   */
+  private Merger(final Class<?> sourceType, final Class<?> targetType, final Set<String> excludeFieldNames) {
+    accessors = FieldAccessors.of(sourceType);
+    final Field[] targetFields = Reflections.getFields(targetType);
+    final List<Integer> sources = new ArrayList<>();
+    final List<Field> targets = new ArrayList<>();
+    for (int i = 0; i < accessors.size(); i++) {
+      final Field source = accessors.field(i);
+      final Field target = excludeFieldNames.contains(source.getName()) ? null : Streamr.stream(targetFields).filter((field) -> field.getName().equals(source.getName())).findFirst().orElse(null);
+      if (target != null && isConvertible(source.getType(), target.getType()) && target.trySetAccessible()) {
+        sources.add(i);
+        targets.add(target);
+      }
+    }
+    this.sources = sources.stream().mapToInt(Integer::intValue).toArray();
+    this.setters = targets.stream().map(Merger::setter).toArray(MethodHandle[]::new);
+    this.primitives = new boolean[targets.size()];
+    for (int i = 0; i < primitives.length; i++) {
+      primitives[i] = targets.get(i).getType().isPrimitive();
+    }
+  }
+
+  /**
+   * returns the plan to set parameters from the source into the target .
+   *
+   * @param sourceType the class of source
+   * @param targetType the class of target
+   * @param excludeFieldNames field name (s) to be excludes
+   * @return {@link Merger}
+   */
+  static Merger of(final Class<?> sourceType, final Class<?> targetType, final Set<String> excludeFieldNames) {
+    final Map<Set<String>, Merger> plans = mergers.get(sourceType).get(targetType);
+    final Merger merger = plans.get(excludeFieldNames);
+    if (merger != null) {
+      return merger;
+    }
+
+    return plans.size() < maxPlans ? plans.computeIfAbsent(Set.copyOf(excludeFieldNames), (_excludeFieldNames) -> new Merger(sourceType, targetType, _excludeFieldNames)) : new Merger(sourceType, targetType, excludeFieldNames);
+  }
+
+  /**
+   * DRY : returns the setter of the field as ( Object, Object ) void .
+   * <p>
+   * {@link Field#set(Object, Object)} instead, if the field could not set using {@link MethodHandles.Lookup#unreflectSetter(Field)} .
+   * </p>
+   *
+   * @param field {@link Field}, which already accessible
+   * @return the setter
+   */
+  private static MethodHandle setter(final Field field) {
+    return Trebuchet.Functions.orElse(field, (_field) -> Reflections.isStatic(_field) ? MethodHandles.dropArguments(MethodHandles.lookup().unreflectSetter(_field), 0, Object.class).asType(setterType) : MethodHandles.lookup().unreflectSetter(_field).asType(setterType), () -> fieldSet.bindTo(field));
+  }
+
+  /**
+   * test if the value of source type could be convertible to target type in any case .
+   *
+   * @param sourceType the type of source field
+   * @param targetType the type of target field
+   * @return false if never convertible
+   */
+  static boolean isConvertible(final Class<?> sourceType, final Class<?> targetType) {
+    if (targetType.isPrimitive()) {
+      final Class<?> primitive = primitive(sourceType);
+
+      return primitive.isPrimitive() ? isWidening(primitive, targetType) : Streamr.stream(wrapperTypes).anyMatch(sourceType::isAssignableFrom);
+    } else if (sourceType.isPrimitive()) {
+      return targetType.isAssignableFrom(wrapper(sourceType));
+    }
+
+    return targetType.isAssignableFrom(sourceType) || sourceType.isAssignableFrom(targetType)
+      || (sourceType.isInterface() && !Modifier.isFinal(targetType.getModifiers()))
+      || (targetType.isInterface() && !Modifier.isFinal(sourceType.getModifiers()));
+  }
+
+  /**
+   * DRY : returns the wrapper type of the primitive type .
+   *
+   * @param type the type
+   * @return the wrapper type, or the type itself if not primitive
+   */
+  private static Class<?> wrapper(final Class<?> type) {
+    for (int i = 0; i < primitiveTypes.length; i++) {
+      if (primitiveTypes[i].equals(type)) {
+        return wrapperTypes[i];
+      }
+    }
+
+    return type;
+  }
+
+  /**
+   * DRY : returns the primitive type of the wrapper type .
+   *
+   * @param type the type
+   * @return the primitive type, or the type itself if not a wrapper
+   */
+  private static Class<?> primitive(final Class<?> type) {
+    if (type.isPrimitive()) {
+      return type;
+    }
+    for (int i = 0; i < wrapperTypes.length; i++) {
+      if (wrapperTypes[i].equals(type)) {
+        return primitiveTypes[i];
+      }
+    }
+
+    return type;
+  }
+
+  /**
+   * test if the primitive type could convert to another one by identity or widening conversion .
+   *
+   * @param sourceType the primitive type of source
+   * @param targetType the primitive type of target
+   * @return true if the primitive type could convert to another one
+   */
+  private static boolean isWidening(final Class<?> sourceType, final Class<?> targetType) {
+    if (sourceType.equals(targetType)) {
+      return true;
+    } else if (boolean.class.equals(sourceType) || boolean.class.equals(targetType) || char.class.equals(targetType) || byte.class.equals(targetType)) {
+      return false;
+    } else if (char.class.equals(sourceType)) {
+      return !short.class.equals(targetType);
+    }
+
+    return rank(sourceType) < rank(targetType);
+  }
+
+  /**
+   * DRY : returns the order of numeric primitive type in widening conversion .
+   *
+   * @param type the numeric primitive type
+   * @return the order
+   */
+  private static int rank(final Class<?> type) {
+    return byte.class.equals(type) ? 0 : short.class.equals(type) ? 1 : int.class.equals(type) ? 2 : long.class.equals(type) ? 3 : float.class.equals(type) ? 4 : 5;
+  }
+
+  /**
+   * set parameters from the source into the target .
+   *
+   * @param source the object which the class of source
+   * @param target the object which the class of target
+   */
+  void merge(final Object source, final Object target) {
+    for (int i = 0; i < setters.length; i++) {
+      final Object value = accessors.get(sources[i], source);
+      if (value == null && primitives[i]) {
+        continue;
+      }
+      try {
+        setters[i].invokeExact(target, value);
+      } catch (Throwable e) {
+        // ignore the value which not convertible, like as SavageReflection.set .
+      }
+    }
+  }
+}
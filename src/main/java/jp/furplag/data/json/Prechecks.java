@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * the structural check of the content before parsing, which rejects obviously invalid one without any exception .
+ * <p>
+ * only the first token and the existence of the end of it are checked, so that the content which passed may still be invalid .
+ * the content which rejected is never JSON that the mapper reads, e.g. HTML, a plain text, empty, or the object which has no close brace .
+ * the content which not determinable ( starts with a comment, a non-ASCII character or the bytes not encoded in UTF-8 ) always passes .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+final class Prechecks {
+
+  /** the first token could not determine . */
+  private static final int undetermined = -1;
+
+  /** the first token never starts JSON . */
+  private static final int invalid = -2;
+
+  /** the first token is a literal, true, false or null . */
+  private static final int literal = -3;
+
+  /** the first token is a number, which has no end . */
+  private static final int numeric = 0;
+
+  /** the errors which report the content rejected, shares per reason . */
+  private static final Map<Result.Reason, Rejected> rejections = new EnumMap<>(Result.Reason.class);
+  static {
+    for (Result.Reason reason : Result.Reason.values()) {
+      rejections.put(reason, new Rejected(reason));
+    }
+  }
+
+  /**
+   * the error which reports the content rejected before parsing, e.g. to the listener, which has no stack trace .
+   *
+   * @author furplag
+   *
+   */
+  static final class Rejected extends JsonParseException {
+
+    private static final long serialVersionUID = 1L;
+
+    /** the reason why the content rejected . */
+    private final Result.Reason reason;
+
+    /**
+     * {@link Rejected} .
+     *
+     * @param reason the reason why the content rejected
+     */
+    private Rejected(final Result.Reason reason) {
+      super(null, String.format("rejected before parsing ( %s ) .", reason));
+      this.reason = reason;
+    }
+
+    /**
+     * returns the reason why the content rejected .
+     *
+     * @return {@link Result.Reason}
+     */
+    Result.Reason reason() {
+      return reason;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /** no instance . */
+  private Prechecks() {}
+
+  /**
+   * returns the error which reports the content rejected, never allocates .
+   *
+   * @param reason the reason why the content rejected
+   * @return {@link Rejected}
+   */
+  static Rejected rejected(final Result.Reason reason) {
+    return rejections.get(reason);
+  }
+
+  /**
+   * returns the reason why the content rejected .
+   *
+   * @param content a text which maybe JSON formatted
+   * @param comments allows comments
+   * @param singleQuotes allows single quotes
+   * @return {@link Result.Reason}, or null if the content could be JSON
+   */
+  static Result.Reason check(final String content, final boolean comments, final boolean singleQuotes) {
+    final int end = content == null ? 0 : content.length();
+    int start = 0;
+    while (start < end && isWhitespace(content.charAt(start))) {
+      start++;
+    }
+    if (start >= end) {
+      return Result.Reason.EMPTY;
+    }
+    final char first = content.charAt(start);
+    final int closer = closer(first, comments, singleQuotes);
+    if (closer == invalid) {
+      return Result.Reason.NOT_JSON;
+    } else if (closer == literal) {
+      return content.startsWith(literal(first), start) ? null : Result.Reason.NOT_JSON;
+    }
+
+    return closer < 1 || content.lastIndexOf(closer) > start ? null : Result.Reason.TRUNCATED;
+  }
+
+  /**
+   * returns the reason why the UTF-8 encoded content rejected .
+   *
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param comments allows comments
+   * @param singleQuotes allows single quotes
+   * @return {@link Result.Reason}, or null if the content could be JSON
+   */
+  static Result.Reason check(final byte[] content, final int offset, final int length, final boolean comments, final boolean singleQuotes) {
+    final int end = content == null ? 0 : Math.min(content.length, offset + Math.max(0, length));
+    int start = Math.max(0, offset);
+    if (end - start > 1 && (content[start] == 0 || content[start + 1] == 0)) {
+      // UTF-16 or UTF-32 .
+      return null;
+    }
+    while (start < end && isWhitespace(content[start])) {
+      start++;
+    }
+    if (start >= end) {
+      return Result.Reason.EMPTY;
+    }
+    final int first = content[start] & 0xFF;
+    final int closer = closer(first, comments, singleQuotes);
+    if (closer == invalid) {
+      return Result.Reason.NOT_JSON;
+    } else if (closer == literal) {
+      final String literal = literal(first);
+      if (end - start < literal.length()) {
+        return Result.Reason.NOT_JSON;
+      }
+      for (int i = 1; i < literal.length(); i++) {
+        if (content[start + i] != literal.charAt(i)) {
+          return Result.Reason.NOT_JSON;
+        }
+      }
+
+      return null;
+    } else if (closer > 0) {
+      for (int i = end - 1; i > start; i--) {
+        if (content[i] == closer) {
+          return null;
+        }
+      }
+
+      return Result.Reason.TRUNCATED;
+    }
+
+    return null;
+  }
+
+  /**
+   * DRY : returns the character which ends the first token .
+   *
+   * @param first the first character of the content
+   * @param comments allows comments
+   * @param singleQuotes allows single quotes
+   * @return the character which ends the first token, or {@link #numeric}, {@link #literal}, {@link #undetermined} or {@link #invalid}
+   */
+  private static int closer(final int first, final boolean comments, final boolean singleQuotes) {
+    switch (first) {
+      case '{':
+        return '}';
+      case '[':
+        return ']';
+      case '"':
+        return '"';
+      case '\'':
+        return singleQuotes ? '\'' : invalid;
+      case 't':
+      case 'f':
+      case 'n':
+        return literal;
+      case '/':
+      case '#':
+        return comments ? undetermined : invalid;
+      case '-':
+        return numeric;
+      default:
+        return first >= '0' && first <= '9' ? numeric : first > 0x7F ? undetermined : invalid;
+    }
+  }
+
+  /**
+   * DRY : returns the literal which starts with the character .
+   *
+   * @param first t, f or n
+   * @return true, false or null
+   */
+  private static String literal(final int first) {
+    return first == 't' ? "true" : first == 'f' ? "false" : "null";
+  }
+
+  /**
+   * DRY : test if the character is the whitespace in JSON .
+   *
+   * @param c the character
+   * @return true if the character is the whitespace
+   */
+  private static boolean isWhitespace(final int c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+  }
+}
@@ -0,0 +1,1813 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+import jp.furplag.data.json.deser.LenientlyInstantDeserializer;
+import jp.furplag.data.json.deser.LenientlyLocalDateDeserializer;
+import jp.furplag.data.json.deser.LenientlyLocalDateTimeDeserializer;
+import jp.furplag.data.json.metrics.Listener;
+import jp.furplag.data.json.stream.ChunkedReader;
+import jp.furplag.data.json.stream.ChunkedWriter;
+import jp.furplag.data.json.stream.Framing;
+import jp.furplag.data.json.stream.JsonArrays;
+import jp.furplag.data.json.stream.JsonBatches;
+import jp.furplag.data.json.stream.JsonChunks;
+import jp.furplag.data.json.stream.JsonLines;
+import jp.furplag.data.json.stream.JsonPointers;
+import jp.furplag.data.json.stream.MappedInputStream;
+import jp.furplag.data.json.stream.OnFailure;
+import jp.furplag.data.json.stream.PointerMatcher;
+import jp.furplag.sandbox.reflect.SavageReflection;
+import jp.furplag.sandbox.trebuchet.Trebuchet;
+
+/**
+ * the instance of {@link Jsonifier}, which owns the mapper and the caches of its own .
+ * <p>
+ * {@link #lenient()} builds the one which behaves the same as {@link Jsonifier},
+ * and {@link #strict()} builds the one which reads the standard JSON only, that the tokenizer never looks for comments, quotes and commas out of the standard .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class Profile {
+
+  /** {@link ObjectMapper} which configured by the profile . */
+  private final ObjectMapper mapper;
+
+  /** cache of {@link ObjectReader} which the type to deserialize already resolved, turns stale when the mapper reconfigured . */
+  private final Map<Object, ObjectReader> readers = new ConcurrentHashMap<>();
+
+  /** cache of {@link ObjectWriter} which the type to serialize already resolved, turns stale when the mapper reconfigured . */
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+  /** {@link Listener} which receives the result of each call, or null if nothing to report . */
+  private final Listener listener;
+
+  /** the lenient deserializer of {@link LocalDateTime} which owns the cache of parse results, or null if date-time deserializes strictly . */
+  private final LenientlyLocalDateTimeDeserializer localDateTimeDeserializer;
+
+  /** allows comments, for {@link Prechecks} . */
+  private final boolean comments;
+
+  /** allows single quotes, for {@link Prechecks} . */
+  private final boolean singleQuotes;
+
+  /**
+   * the call which reports to {@link #listener} .
+   *
+   * @param <T> the type of result
+   * @param <EX> the type of error
+   */
+  @FunctionalInterface
+  interface Call<T, EX extends Throwable> {
+    T call() throws EX;
+  }
+
+  /**
+   * {@link Profile} .
+   *
+   * @param builder {@link Builder}
+   */
+  private Profile(final Builder builder) {/* @formatter:off */
+    localDateTimeDeserializer = builder.lenientTemporals ? new LenientlyLocalDateTimeDeserializer(builder.localDateTimeCacheSize) : null;
+    mapper = new ObjectMapper(jsonFactory(builder))
+
+    // @formatter:off
+    .registerModules(
+      new ParameterNamesModule()
+    , new Jdk8Module()
+    , javaTimeModule(localDateTimeDeserializer)
+    , new SimpleModule().addSerializer(BrutalSerializer.Brutal.class, new BrutalSerializer())
+    )
+    .configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true)
+    // never close the stream which given from outside .
+    .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+    .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)
+    // flush once when the generator closes .
+    .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
+    .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
+    // sort by key name .
+    // .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+
+    // pretty print for Date/Time .
+    .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+    // against failure if no fields .
+    .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+    // against failure if undefined field .
+    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+    .configure(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, false)
+    // igonre empty field .
+    .setDefaultPropertyInclusion(JsonInclude.Include.NON_EMPTY)
+    // @formatter:on
+    ;
+    if (builder.blackbird) {
+      mapper.registerModule(builder.lookups == null ? new BlackbirdModule() : new BlackbirdModule(builder.lookups));
+    }
+    listener = builder.listener;
+    comments = builder.comments;
+    singleQuotes = builder.singleQuotes;
+  }
+
+  /**
+   * returns the builder which starts from the lenient profile, the same as {@link Jsonifier} .
+   *
+   * @return {@link Builder}
+   */
+  public static Builder lenient() {
+    return new Builder(true);
+  }
+
+  /**
+   * returns the builder which starts from the strict profile, for trusted input which is the standard JSON .
+   * <p>
+   * comments, single quotes, unquoted field names and trailing commas are not allowed,
+   * and date-time deserializes only in the formats which {@link JavaTimeModule} accepts .
+   * </p>
+   *
+   * @return {@link Builder}
+   */
+  public static Builder strict() {
+    return new Builder(false);
+  }
+
+  /**
+   * returns the listener which receives the result of each call .
+   *
+   * @return {@link Listener}, or null if nothing to report
+   * @see Builder#listener(Listener)
+   */
+  public Listener listener() {
+    return listener;
+  }
+
+  /**
+   * returns the number of lenient date-time parse results which found in the cache of the profile .
+   *
+   * @return the number of cache hits, or zero if not cached
+   * @see Builder#localDateTimeCacheSize(int)
+   */
+  public long localDateTimeCacheHits() {
+    return localDateTimeDeserializer == null ? 0 : localDateTimeDeserializer.cacheHits();
+  }
+
+  /**
+   * returns the number of lenient date-time parse results which not found in the cache of the profile .
+   *
+   * @return the number of cache misses, or zero if not cached
+   * @see Builder#localDateTimeCacheSize(int)
+   */
+  public long localDateTimeCacheMisses() {
+    return localDateTimeDeserializer == null ? 0 : localDateTimeDeserializer.cacheMisses();
+  }
+
+  /**
+   * DRY : returns {@link JsonFactory} which the tokenizer configured .
+   *
+   * @param builder {@link Builder}
+   * @return {@link JsonFactory}
+   */
+  private static JsonFactory jsonFactory(final Builder builder) {/* @formatter:off */
+    final JsonFactoryBuilder factoryBuilder = new JsonFactoryBuilder()
+      // Allow /** comment */ .
+      .configure(JsonReadFeature.ALLOW_JAVA_COMMENTS, builder.comments)
+      // Allow # comment .
+      .configure(JsonReadFeature.ALLOW_YAML_COMMENTS, builder.comments)
+      // Allow "{"key": "value"... , }" .
+      .configure(JsonReadFeature.ALLOW_TRAILING_COMMA, builder.trailingComma)
+      // Allow "{'key': 'value'}" .
+      .configure(JsonReadFeature.ALLOW_SINGLE_QUOTES, builder.singleQuotes)
+      // Allow "{key: "value"}" .
+      .configure(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES, builder.unquotedFieldNames);
+
+    return (builder.recyclerPool == null ? factoryBuilder : factoryBuilder.recyclerPool(builder.recyclerPool)).build();
+  /* @formatter:on */}
+
+  /**
+   * DRY : returns {@link JavaTimeModule} which date-time deserializers registered .
+   *
+   * @param localDateTimeDeserializer {@link LenientlyLocalDateTimeDeserializer}, or null if date-time deserializes strictly
+   * @return {@link JavaTimeModule}
+   */
+  private static SimpleModule javaTimeModule(final LenientlyLocalDateTimeDeserializer localDateTimeDeserializer) {/* @formatter:off */
+    return localDateTimeDeserializer == null ? new JavaTimeModule() : new JavaTimeModule()
+      .addDeserializer(LocalDateTime.class, localDateTimeDeserializer)
+      .addDeserializer(LocalDate.class, new LenientlyLocalDateDeserializer())
+      .addDeserializer(Instant.class, LenientlyInstantDeserializer.instant)
+      .addDeserializer(OffsetDateTime.class, LenientlyInstantDeserializer.offsetDateTime)
+      .addDeserializer(ZonedDateTime.class, LenientlyInstantDeserializer.zonedDateTime);
+  /* @formatter:on */}
+
+  /**
+   * create the instance of specified class represented by the JSON String .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserialize(final String content, final Object valueType) {
+    final Result.Reason rejected = Prechecks.check(content, comments, singleQuotes);
+
+    return rejected != null ? rejected(valueType, rejected) : Trebuchet.Functions.orNot(content, valueType, this::deserializeStrictly);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON String .
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserialize(final String content, final TypeReference<T> valueType) {
+    return deserialize(content, (Object) valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeBytes(final byte[] content, final int offset, final int length, final Object valueType) {
+    final Result.Reason rejected = Prechecks.check(content, offset, length, comments, singleQuotes);
+
+    return rejected != null ? rejected(valueType, rejected) : Trebuchet.Functions.orNot(content, (_content) -> deserializeBytesStrictly(_content, offset, length, valueType));
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON String, or the reason why failed without any exception .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) rejects without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link Result}
+   */
+  public <T> Result<T> tryDeserialize(final String content, final Object valueType) {
+    final Result.Reason rejected = reader(valueType) == null ? Result.Reason.UNKNOWN_TYPE : Prechecks.check(content, comments, singleQuotes);
+    if (rejected != null) {
+      rejected(valueType, rejected);
+
+      return Result.rejected(rejected);
+    }
+    try {
+      return Result.of(deserializeStrictly(content, valueType));
+    } catch (Exception e) {
+      return Result.failed(e);
+    }
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON String, or the reason why failed without any exception .
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link TypeReference}
+   * @return {@link Result}
+   */
+  public <T> Result<T> tryDeserialize(final String content, final TypeReference<T> valueType) {
+    return tryDeserialize(content, (Object) valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON, or the reason why failed without any exception .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) rejects without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link Result}
+   */
+  public <T> Result<T> tryDeserializeBytes(final byte[] content, final int offset, final int length, final Object valueType) {
+    final Result.Reason rejected = reader(valueType) == null ? Result.Reason.UNKNOWN_TYPE : Prechecks.check(content, offset, length, comments, singleQuotes);
+    if (rejected != null) {
+      rejected(valueType, rejected);
+
+      return Result.rejected(rejected);
+    }
+    try {
+      return Result.of(deserializeBytesStrictly(content, offset, length, valueType));
+    } catch (Exception e) {
+      return Result.failed(e);
+    }
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON, the position of the buffer never changes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link ByteBuffer} which remaining maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeBuffer(final ByteBuffer content, final Object valueType) {
+    return Trebuchet.Functions.orNot(content, valueType, this::deserializeBufferStrictly);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeStream(final InputStream content, final Object valueType) {
+    return Trebuchet.Functions.orNot(content, valueType, this::deserializeStreamStrictly);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Reader} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeStream(final Reader content, final Object valueType) {
+    return Trebuchet.Functions.orNot(content, valueType, this::deserializeStreamStrictly);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeFile(final Path content, final Object valueType) {
+    return Trebuchet.Functions.orNot(content, valueType, this::deserializeFileStrictly);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file, which reads through memory-mapped windows .
+   * <p>
+   * the file never copies into the heap as a whole, and the file which larger than 2 GB maps window by window .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeMapped(final Path content, final Object valueType) {
+    return Trebuchet.Functions.orNot(content, valueType, this::deserializeMappedStrictly);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON String .
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeStrictly(final String content, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = content == null ? null : reader(valueType);
+
+    return reader == null ? null : reading(reader, content.length(), () -> reader.readValue(content));
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON String .
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if error occurs
+   */
+  public <T> T deserializeStrictly(final String content, final TypeReference<T> valueType) throws JsonProcessingException, IOException {
+    return deserializeStrictly(content, (Object) valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON .
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public <T> T deserializeBytesStrictly(final byte[] content, final int offset, final int length, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = content == null ? null : reader(valueType);
+
+    return reader == null ? null : reading(reader, length, () -> reader.readValue(content, offset, length));
+  }
+
+  /**
+   * create the instance of specified class represented by the UTF-8 encoded JSON, the position of the buffer never changes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link ByteBuffer} which remaining maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public <T> T deserializeBufferStrictly(final ByteBuffer content, final Object valueType) throws JsonProcessingException, IOException {
+    if (content != null && content.hasArray()) {
+      return deserializeBytesStrictly(content.array(), content.arrayOffset() + content.position(), content.remaining(), valueType);
+    }
+
+    return content == null ? null : deserializeStreamStrictly(new ByteBufferBackedInputStream(content.duplicate()), valueType);
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public <T> T deserializeStreamStrictly(final InputStream content, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = content == null ? null : reader(valueType);
+
+    return reader == null ? null : reading(reader, -1, () -> reader.readValue(content));
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Reader} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public <T> T deserializeStreamStrictly(final Reader content, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = content == null ? null : reader(valueType);
+
+    return reader == null ? null : reading(reader, -1, () -> reader.readValue(content));
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public <T> T deserializeFileStrictly(final Path content, final Object valueType) throws JsonProcessingException, IOException {
+    if (content == null || reader(valueType) == null) {
+      return null;
+    }
+    try (InputStream stream = Files.newInputStream(content)) {
+      return deserializeStreamStrictly(stream, valueType);
+    }
+  }
+
+  /**
+   * create the instance of specified class represented by the JSON file, which reads through memory-mapped windows .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public <T> T deserializeMappedStrictly(final Path content, final Object valueType) throws JsonProcessingException, IOException {
+    if (content == null || reader(valueType) == null) {
+      return null;
+    }
+    try (InputStream stream = MappedInputStream.open(content)) {
+      return deserializeStreamStrictly(stream, valueType);
+    }
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines, the stream never closes .
+   * <p>
+   * the record which failed to deserialize turns into null .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link InputStream} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records
+   */
+  public <T> Stream<T> lines(final InputStream content, final Object valueType) {
+    return lines(content, valueType, OnFailure.NULL);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines, the stream never closes .
+   *
+   * @param <T> the type of record
+   * @param content {@link InputStream} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param onFailure how to handle the record which failed to deserialize
+   * @return the stream of records
+   */
+  public <T> Stream<T> lines(final InputStream content, final Object valueType, final OnFailure onFailure) {
+    return JsonLines.stream(content, reader(valueType), onFailure);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines file, the file closes when the stream closed .
+   * <p>
+   * the record which failed to deserialize turns into null, and returns empty if the file could not open .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records
+   */
+  public <T> Stream<T> lines(final Path content, final Object valueType) {
+    return lines(content, valueType, OnFailure.NULL);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines file, the file closes when the stream closed .
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param onFailure how to handle the record which failed to deserialize, and raises {@link UncheckedIOException} if {@link OnFailure#THROW} and the file could not open
+   * @return the stream of records
+   */
+  public <T> Stream<T> lines(final Path content, final Object valueType, final OnFailure onFailure) {
+    return Trebuchet.Functions.orElse(content, (_content) -> this.<T>openLines(_content, valueType, onFailure), (t, e) -> emptyOrThrow(e, onFailure));
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines, the stream never closes .
+   *
+   * @param <T> the type of record
+   * @param content {@link InputStream} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records, which raises {@link UncheckedIOException} if the record failed to deserialize
+   */
+  public <T> Stream<T> linesStrictly(final InputStream content, final Object valueType) {
+    return lines(content, valueType, OnFailure.THROW);
+  }
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines file, the file closes when the stream closed .
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of records, which raises {@link UncheckedIOException} if the record failed to deserialize
+   * @throws IOException if the file could not open
+   */
+  public <T> Stream<T> linesStrictly(final Path content, final Object valueType) throws IOException {
+    return openLines(content, valueType, OnFailure.THROW);
+  }
+
+  /**
+   * returns the lazy stream of elements of the top-level array, the stream never closes .
+   *
+   * @param <T> the type of element
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, the element which failed to deserialize turns into null
+   * @see #elements(InputStream, String, Object)
+   */
+  public <T> Stream<T> elements(final InputStream content, final Object valueType) {
+    return elements(content, null, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points, the stream never closes .
+   * <p>
+   * only one element materializes at a time, the element which failed to deserialize turns into null,
+   * and the stream ends at the broken JSON, or returns empty if the array not found .
+   * </p>
+   *
+   * @param <T> the type of element
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements
+   */
+  public <T> Stream<T> elements(final InputStream content, final String pointer, final Object valueType) {
+    return Trebuchet.Functions.orElse(content, (_content) -> this.<T>elements(_content, pointer, valueType, OnFailure.NULL), Stream::empty);
+  }
+
+  /**
+   * returns the lazy stream of elements of the top-level array in the file, the file closes when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, the element which failed to deserialize turns into null
+   * @see #elements(InputStream, String, Object)
+   */
+  public <T> Stream<T> elements(final Path content, final Object valueType) {
+    return elements(content, null, valueType);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points in the file, the file closes when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, or empty if the file could not open
+   * @see #elements(InputStream, String, Object)
+   */
+  public <T> Stream<T> elements(final Path content, final String pointer, final Object valueType) {
+    return Trebuchet.Functions.orElse(content, (_content) -> this.<T>elements(_content, pointer, valueType, OnFailure.NULL), Stream::empty);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points, the stream never closes .
+   *
+   * @param <T> the type of element
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, which raises {@link UncheckedIOException} if the array not found or the element failed to deserialize
+   * @throws IOException if a low-level I/O problem occurs
+   */
+  public <T> Stream<T> elementsStrictly(final InputStream content, final String pointer, final Object valueType) throws IOException {
+    return elements(content, pointer, valueType, OnFailure.THROW);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points in the file, the file closes when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param pointer JSON Pointer of the array ( e.g. "/data/items" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return the stream of elements, which raises {@link UncheckedIOException} if the array not found or the element failed to deserialize
+   * @throws IOException if the file could not open
+   */
+  public <T> Stream<T> elementsStrictly(final Path content, final String pointer, final Object valueType) throws IOException {
+    return elements(content, pointer, valueType, OnFailure.THROW);
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the JSON String .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found or error occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  public <T> T extract(final String content, final String pointer, final Object valueType) {
+    final Result.Reason rejected = Prechecks.check(content, comments, singleQuotes);
+
+    return rejected != null ? rejected(valueType, rejected) : Trebuchet.Functions.orNot(content, (_content) -> extractStrictly(_content, pointer, valueType));
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the UTF-8 encoded JSON .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found or error occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  public <T> T extract(final byte[] content, final int offset, final int length, final String pointer, final Object valueType) {
+    final Result.Reason rejected = Prechecks.check(content, offset, length, comments, singleQuotes);
+
+    return rejected != null ? rejected(valueType, rejected) : Trebuchet.Functions.orNot(content, (_content) -> extractStrictly(_content, offset, length, pointer, valueType));
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found or error occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  public <T> T extract(final InputStream content, final String pointer, final Object valueType) {
+    return Trebuchet.Functions.orNot(content, (_content) -> extractStrictly(_content, pointer, valueType));
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the JSON String .
+   * <p>
+   * only the value binds, every subtree which not on the path skips without binding, and the content after the value never reads .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param content a text which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found
+   * @throws IllegalArgumentException if the pointer is not a valid JSON Pointer
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public <T> T extractStrictly(final String content, final String pointer, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = content == null ? null : reader(valueType);
+    if (reader == null) {
+      return null;
+    }
+    final JsonPointer path = JsonPointer.compile(Objects.toString(pointer, ""));
+
+    return reading(reader, content.length(), () -> {
+      try (JsonParser parser = mapper.createParser(content)) {
+        return JsonPointers.extract(parser, path, reader);
+      }
+    });
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the UTF-8 encoded JSON .
+   *
+   * @param <T> the type of instance
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found
+   * @throws IllegalArgumentException if the pointer is not a valid JSON Pointer
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  public <T> T extractStrictly(final byte[] content, final int offset, final int length, final String pointer, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = content == null ? null : reader(valueType);
+    if (reader == null) {
+      return null;
+    }
+    final JsonPointer path = JsonPointer.compile(Objects.toString(pointer, ""));
+
+    return reading(reader, length, () -> {
+      try (JsonParser parser = mapper.createParser(content, offset, length)) {
+        return JsonPointers.extract(parser, path, reader);
+      }
+    });
+  }
+
+  /**
+   * create the instance of specified class represented by the value which the pointer points in the JSON stream, the stream never closes .
+   *
+   * @param <T> the type of instance
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the value ( e.g. "/header/eventType" ), the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T, or null if the value not found
+   * @throws IllegalArgumentException if the pointer is not a valid JSON Pointer
+   * @throws JsonProcessingException if the input JSON structure does not match structure expected for result type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   * @see #extractStrictly(String, String, Object)
+   */
+  public <T> T extractStrictly(final InputStream content, final String pointer, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = content == null ? null : reader(valueType);
+    if (reader == null) {
+      return null;
+    }
+    final JsonPointer path = JsonPointer.compile(Objects.toString(pointer, ""));
+
+    return reading(reader, -1, () -> {
+      try (JsonParser parser = mapper.createParser(content)) {
+        return JsonPointers.extract(parser, path, reader);
+      }
+    });
+  }
+
+  /**
+   * compile the JSON Pointers into {@link Projection}, which extracts all of the values in one pass, each value binds as {@link Object} .
+   *
+   * @param pointers JSON Pointers of the values ( e.g. "/header/eventType" ), the root if null or empty
+   * @return {@link Projection} which results the array of values in the order of pointers
+   * @throws IllegalArgumentException if any of pointers is not a valid JSON Pointer
+   */
+  public Projection<Object[]> projection(final String... pointers) {
+    final List<JsonPointer> paths = new ArrayList<>();
+    for (String pointer : pointers) {
+      paths.add(JsonPointer.compile(Objects.toString(pointer, "")));
+    }
+
+    return new Projection<>(this, mapper, PointerMatcher.compile(paths, Collections.nCopies(paths.size(), reader(Object.class))), Function.identity(), comments, singleQuotes);
+  }
+
+  /**
+   * compile the JSON Pointers into {@link Projection}, which extracts all of the values in one pass .
+   *
+   * @param pointers JSON Pointers of the values ( e.g. "/header/eventType" ), and the type of each value,
+   * {@link Class} or an instance of {@link JavaType} or {@link TypeReference}, in the order of iteration
+   * @return {@link Projection} which results the array of values in the order of pointers
+   * @throws IllegalArgumentException if any of pointers is not a valid JSON Pointer, or any of types is not any of those
+   */
+  public Projection<Object[]> projection(final Map<String, ?> pointers) {
+    final List<JsonPointer> paths = new ArrayList<>();
+    final List<ObjectReader> readers = new ArrayList<>();
+    pointers.forEach((pointer, valueType) -> {
+      paths.add(JsonPointer.compile(Objects.toString(pointer, "")));
+      readers.add(reader(valueType));
+    });
+
+    return new Projection<>(this, mapper, PointerMatcher.compile(paths, readers), Function.identity(), comments, singleQuotes);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines, the record which failed to deserialize turns into null .
+   *
+   * @param <T> the type of record
+   * @param content {@link ByteBuffer} of JSON Lines, reads the remaining bytes
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @return the parallel stream of records
+   * @see #linesParallel(ByteBuffer, Object, boolean, OnFailure)
+   */
+  public <T> Stream<T> linesParallel(final ByteBuffer content, final Object valueType, final boolean ordered) {
+    return linesParallel(content, valueType, ordered, OnFailure.NULL);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines .
+   * <p>
+   * the content splits into the chunks on the end of line, and each chunk parses on the fork-join pool .
+   * the position and the limit of the buffer never change .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link ByteBuffer} of JSON Lines, reads the remaining bytes
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @param onFailure how to handle the record which failed to deserialize
+   * @return the parallel stream of records
+   */
+  public <T> Stream<T> linesParallel(final ByteBuffer content, final Object valueType, final boolean ordered, final OnFailure onFailure) {
+    return JsonLines.parallel(content, reader(valueType), onFailure, ordered);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines file, the record which failed to deserialize turns into null .
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @return the parallel stream of records, or empty if the file could not open
+   * @see #linesParallel(Path, Object, boolean, OnFailure)
+   */
+  public <T> Stream<T> linesParallel(final Path content, final Object valueType, final boolean ordered) {
+    return linesParallel(content, valueType, ordered, OnFailure.NULL);
+  }
+
+  /**
+   * returns the parallel stream of records represented by the JSON Lines file, the file maps into the memory .
+   * <p>
+   * the file splits into the chunks on the end of line, and each chunk parses on the fork-join pool .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param ordered returns records in the order of content if true
+   * @param onFailure how to handle the record which failed to deserialize, and raises {@link UncheckedIOException} if {@link OnFailure#THROW} and the file could not open
+   * @return the parallel stream of records
+   */
+  public <T> Stream<T> linesParallel(final Path content, final Object valueType, final boolean ordered, final OnFailure onFailure) {
+    return Trebuchet.Functions.orElse(content, (_content) -> JsonLines.<T>parallel(_content, reader(valueType), onFailure, ordered), (t, e) -> emptyOrThrow(e, onFailure));
+  }
+
+  /**
+   * returns {@link ChunkedReader} which deserializes the instance of specified class from the chunks of UTF-8 encoded JSON as they arrive .
+   * <p>
+   * feed the chunks, and then the result completes with the instance without blocking .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link ChunkedReader}, which the result completes with null if the type is not any of those
+   */
+  public <T> ChunkedReader<T> deserializeAsync(final Object valueType) {
+    return JsonChunks.reader(mapper.getFactory(), reader(valueType));
+  }
+
+  /**
+   * create the instance of specified class represented by the chunks of UTF-8 encoded JSON, without blocking .
+   *
+   * @param <T> the type of instance
+   * @param content {@link Flow.Publisher} of chunks
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link CompletableFuture} which completes with an instance of T, or completes exceptionally if error occurs
+   */
+  public <T> CompletableFuture<T> deserializeAsync(final Flow.Publisher<ByteBuffer> content, final Object valueType) {
+    return JsonChunks.read(content, mapper.getFactory(), reader(valueType));
+  }
+
+  /**
+   * returns {@link Flow.Publisher} of records represented by the chunks of UTF-8 encoded JSON Lines ( or the values separated by whitespace ) .
+   * <p>
+   * the chunk requests only when the subscriber demands more records, and the error signals after the records which already deserialized .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link Flow.Publisher} of chunks
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link Flow.Publisher} of records
+   */
+  public <T> Flow.Publisher<T> linesAsync(final Flow.Publisher<ByteBuffer> content, final Object valueType) {
+    return JsonChunks.publisher(content, mapper.getFactory(), reader(valueType));
+  }
+
+  /**
+   * DRY : returns empty stream, or raise the error if {@link OnFailure#THROW} .
+   *
+   * @param <T> the type of element
+   * @param error anything thrown
+   * @param onFailure {@link OnFailure}
+   * @return empty stream
+   */
+  private static <T> Stream<T> emptyOrThrow(final Throwable error, final OnFailure onFailure) {
+    if (OnFailure.THROW.equals(onFailure)) {
+      throw error instanceof IOException ? new UncheckedIOException((IOException) error) : error instanceof RuntimeException ? (RuntimeException) error : new IllegalStateException(error);
+    }
+
+    return Stream.empty();
+  }
+
+  /**
+   * JSON stringify error, the report itself is not reported to the listener .
+   *
+   * @param error anything thrown
+   * @return JSON stringify error
+   */
+  private <EX extends Throwable> String failureReport(final EX error) {
+    return Trebuchet.Functions.orElse(wrappingFailureReport(propertalizedException(error)), mapper::writeValueAsString, () -> "{}");
+  }
+
+  /**
+   * JSON stringify error .
+   *
+   * @param error anything thrown
+   * @return JSON stringify error
+   */
+  private static <EX extends Throwable> Map<String, String> propertalizedException(final EX error) {/* @formatter:off */
+    return new LinkedHashMap<>() {{
+      Optional.ofNullable(error).ifPresent(((Consumer<EX>) (_error) -> put("error", _error.getClass().getName())).andThen((_error) -> put("message", _error.getMessage())));
+    }};
+  /* @formatter:on */}
+
+  /**
+   * JSON stringify specified object, or null if error occurs .
+   *
+   * @param source an object
+   * @return JSON stringify specified object, or null if error occurs
+   */
+  public String serialize(final Object source) {
+    // @formatter:off
+    return Trebuchet.Functions.orNot(source, this::serializeStrictly);
+    // @formatter:on
+  }
+
+  /**
+   * write specified object as UTF-8 encoded JSON, the stream never closes .
+   *
+   * @param source an object
+   * @param destination {@link OutputStream}
+   * @return true if the object has written, or false if error occurs
+   */
+  public boolean serialize(final Object source, final OutputStream destination) {
+    return Trebuchet.Functions.orElse(source, (_source) -> serializeStrictly(_source, destination), () -> false);
+  }
+
+  /**
+   * write specified object as JSON, the stream never closes .
+   *
+   * @param source an object
+   * @param destination {@link Writer}
+   * @return true if the object has written, or false if error occurs
+   */
+  public boolean serialize(final Object source, final Writer destination) {
+    return Trebuchet.Functions.orElse(source, (_source) -> serializeStrictly(_source, destination), () -> false);
+  }
+
+  /**
+   * write specified object to the file as UTF-8 encoded JSON .
+   *
+   * @param source an object
+   * @param destination {@link Path} of the file, create or truncate it
+   * @return true if the object has written, or false if error occurs
+   */
+  public boolean serialize(final Object source, final Path destination) {
+    return Trebuchet.Functions.orElse(source, (_source) -> serializeStrictly(_source, destination), () -> false);
+  }
+
+  /**
+   * JSON stringify specified object, or null if error occurs .
+   * <p>
+   * <strong>Note</strong>:<div>field access using reflection if error occurs ( only for serialization ) .</div>
+   * </p>
+   *
+   * @param source an object
+   * @return JSON stringify specified object, or null if error occurs
+   */
+  public String serializeBrutaly(final Object source) {
+    // @formatter:off
+    return source == null || source instanceof Class ? Trebuchet.Functions.orNot(SavageReflection.read(source), this::serializeStrictly) : Trebuchet.Functions.orNot(new BrutalSerializer.Brutal(source), this::serializeStrictly);
+    // @formatter:on
+  }
+
+  /**
+   * JSON stringify specified object, or error report JSON like below if error occurs .
+   *
+   * <pre>
+   * {
+   *   "jsonifier.serializationFailure": {
+   *     error : " class name of error . "
+   *   , message: " error message . "
+   *   }
+   * }
+   * </pre>
+   *
+   * @param source an object
+   * @return JSON stringify specified object, or error
+   */
+  public Object serializeOrFailure(final Object source) {
+    return Trebuchet.Functions.orElse(source, this::serializeStrictly, (t, e) -> failureReport(e));
+  }
+
+  /**
+   * JSON stringify each object in parallel using {@link ForkJoinPool#commonPool()} .
+   *
+   * @param sources the objects
+   * @return JSON strings in the order of input, or error report like {@link #serializeOrFailure(Object)} for each object which failed to serialize
+   */
+  public List<String> serializeAll(final Collection<?> sources) {
+    return serializeAll(sources, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * JSON stringify each object in parallel .
+   *
+   * @param sources the objects
+   * @param executor {@link Executor}
+   * @return JSON strings in the order of input, or error report like {@link #serializeOrFailure(Object)} for each object which failed to serialize
+   */
+  public List<String> serializeAll(final Collection<?> sources, final Executor executor) {
+    return JsonBatches.serialize(sources, (source) -> Trebuchet.Functions.orElse(source, this::serializeStrictly, (t, e) -> failureReport(e)), executor);
+  }
+
+  /**
+   * JSON stringify each object in parallel using {@link ForkJoinPool#commonPool()}, and write them in the order of input, the stream never closes .
+   *
+   * @param sources the objects
+   * @param destination {@link OutputStream}
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @return the number of objects which written
+   * @throws IOException if error occured
+   */
+  public long serializeAll(final Collection<?> sources, final OutputStream destination, final Framing framing) throws IOException {
+    return serializeAll(sources, ForkJoinPool.commonPool(), destination, framing);
+  }
+
+  /**
+   * JSON stringify each object in parallel, and write them in the order of input, the stream never closes .
+   * <p>
+   * null turns into "null", and each object which failed to serialize turns into error report like {@link #serializeOrFailure(Object)} .
+   * </p>
+   *
+   * @param sources the objects
+   * @param executor {@link Executor}
+   * @param destination {@link OutputStream}
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @return the number of objects which written
+   * @throws IOException if error occured
+   */
+  public long serializeAll(final Collection<?> sources, final Executor executor, final OutputStream destination, final Framing framing) throws IOException {
+    return JsonBatches.write(sources, this::serializeToBytesOrFailure, executor, destination, framing);
+  }
+
+  /**
+   * stringify specified object .
+   *
+   * @param source an object
+   * @return JSON string
+   * @throws JsonProcessingException if error occured
+   */
+  public String serializeStrictly(final Object source) throws JsonProcessingException {
+    return source == null ? null : writing(source, () -> writer(source).writeValueAsString(source), String::length);
+  }
+
+  /**
+   * write specified object as UTF-8 encoded JSON, the stream never closes .
+   *
+   * @param source an object
+   * @param destination {@link OutputStream}
+   * @return true if the object has written
+   * @throws IOException if error occured
+   */
+  public boolean serializeStrictly(final Object source, final OutputStream destination) throws IOException {
+    if (source == null || destination == null) {
+      return false;
+    }
+    return writing(source, () -> {
+      writer(source).writeValue(destination, source);
+
+      return true;
+    }, (written) -> -1);
+  }
+
+  /**
+   * write specified object as JSON, the stream never closes .
+   *
+   * @param source an object
+   * @param destination {@link Writer}
+   * @return true if the object has written
+   * @throws IOException if error occured
+   */
+  public boolean serializeStrictly(final Object source, final Writer destination) throws IOException {
+    if (source == null || destination == null) {
+      return false;
+    }
+    return writing(source, () -> {
+      writer(source).writeValue(destination, source);
+
+      return true;
+    }, (written) -> -1);
+  }
+
+  /**
+   * write specified object to the file as UTF-8 encoded JSON .
+   *
+   * @param source an object
+   * @param destination {@link Path} of the file, create or truncate it
+   * @return true if the object has written
+   * @throws IOException if error occured
+   */
+  public boolean serializeStrictly(final Object source, final Path destination) throws IOException {
+    if (source == null || destination == null) {
+      return false;
+    }
+    try (OutputStream stream = Files.newOutputStream(destination)) {
+      return serializeStrictly(source, stream);
+    }
+  }
+
+  /**
+   * write the records as UTF-8 encoded JSON Lines using single generator, the stream never closes .
+   *
+   * @param source the records, null turns into "null"
+   * @param destination {@link OutputStream}
+   * @return the number of records which written
+   * @throws IOException if error occured
+   */
+  public long writeLines(final Stream<?> source, final OutputStream destination) throws IOException {
+    if (source == null || destination == null) {
+      return 0;
+    }
+    try (JsonGenerator generator = mapper.createGenerator(destination)) {
+      return JsonLines.write(source, generator, this::writer);
+    }
+  }
+
+  /**
+   * returns {@link ChunkedWriter} which serializes the objects into the chunks of UTF-8 encoded JSON, 8 KiB each, and emits the chunk not filled up in 100 milliseconds .
+   *
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @return {@link ChunkedWriter}, subscribe it to the objects, and then subscribe to it
+   */
+  public ChunkedWriter serializeAsync(final Framing framing) {
+    return serializeAsync(framing, 8192, Duration.ofMillis(100));
+  }
+
+  /**
+   * returns {@link ChunkedWriter} which serializes the objects into the chunks of UTF-8 encoded JSON .
+   * <p>
+   * the object requests only when the subscriber demands more chunks, so that the chunks in memory bounded by the size of chunk, not by the number of objects .
+   * </p>
+   *
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @param chunkSize the capacity of chunk in bytes
+   * @param flushInterval the interval to emit the chunk which not filled up, never flush by time if null, zero or negative
+   * @return {@link ChunkedWriter}, subscribe it to the objects, and then subscribe to it
+   * @throws IllegalArgumentException if the size of chunk is not positive
+   */
+  public ChunkedWriter serializeAsync(final Framing framing, final int chunkSize, final Duration flushInterval) {
+    return JsonChunks.writer(mapper, this::writer, framing, chunkSize, flushInterval);
+  }
+
+  /**
+   * JSON stringify specified object as UTF-8 encoded bytes, or null if error occurs .
+   *
+   * @param source an object
+   * @return UTF-8 encoded JSON, or null if error occurs
+   */
+  public byte[] serializeToBytes(final Object source) {
+    return Trebuchet.Functions.orNot(source, this::serializeToBytesStrictly);
+  }
+
+  /**
+   * JSON stringify specified object as UTF-8 encoded bytes, or error report like {@link #serializeOrFailure(Object)} if error occurs .
+   *
+   * @param source an object
+   * @return UTF-8 encoded JSON, or error
+   */
+  public byte[] serializeToBytesOrFailure(final Object source) {
+    return Trebuchet.Functions.orElse(source, this::serializeToBytesStrictly, (t, e) -> failureReport(e).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * stringify specified object as UTF-8 encoded bytes .
+   *
+   * @param source an object
+   * @return UTF-8 encoded JSON
+   * @throws JsonProcessingException if error occured
+   */
+  public byte[] serializeToBytesStrictly(final Object source) throws JsonProcessingException {
+    return source == null ? null : writing(source, () -> writer(source).writeValueAsBytes(source), (bytes) -> bytes.length);
+  }
+
+  /**
+   * JSON stringify error .
+   *
+   * @param error anything thrown
+   * @return JSON stringify error
+   */
+  private static Map<String, Map<String, String>> wrappingFailureReport(final Map<String, String> error) {/* @formatter:off */
+    return new HashMap<>() {{
+      Optional.ofNullable(error).ifPresent((_error) -> put("jsonifier.serializationFailure", _error));
+    }};
+  /* @formatter:on */}
+
+  /**
+   * returns the lazy stream of records represented by the JSON Lines file, the file closes when the stream closed .
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param onFailure how to handle the record which failed to deserialize
+   * @return the stream of records
+   * @throws IOException if the file could not open
+   */
+  private <T> Stream<T> openLines(final Path content, final Object valueType, final OnFailure onFailure) throws IOException {
+    if (content == null || reader(valueType) == null) {
+      return Stream.empty();
+    }
+    final InputStream stream = Files.newInputStream(content);
+
+    return closing(lines(stream, valueType, onFailure), stream);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points, the stream never closes .
+   *
+   * @param <T> the type of element
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @param pointer JSON Pointer of the array, the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param onFailure how to handle the element which failed to deserialize
+   * @return the stream of elements
+   * @throws IOException if a low-level I/O problem occurs
+   */
+  private <T> Stream<T> elements(final InputStream content, final String pointer, final Object valueType, final OnFailure onFailure) throws IOException {
+    final JsonPointer path = JsonPointer.compile(Objects.toString(pointer, ""));
+    final ObjectReader reader = reader(valueType);
+    if (content == null || reader == null) {
+      return Stream.empty();
+    }
+    final JsonParser parser = mapper.createParser(content);
+
+    return closing(JsonArrays.stream(parser, path, reader, onFailure), parser);
+  }
+
+  /**
+   * returns the lazy stream of elements of the array which the pointer points, the file closes when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param content {@link Path} of the file which maybe JSON formatted
+   * @param pointer JSON Pointer of the array, the root if null or empty
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param onFailure how to handle the element which failed to deserialize
+   * @return the stream of elements
+   * @throws IOException if the file could not open
+   */
+  private <T> Stream<T> elements(final Path content, final String pointer, final Object valueType, final OnFailure onFailure) throws IOException {
+    if (content == null || reader(valueType) == null) {
+      return Stream.empty();
+    }
+    final InputStream stream = Files.newInputStream(content);
+    try {
+      return closing(elements(stream, pointer, valueType, onFailure), stream);
+    } catch (IOException | RuntimeException e) {
+      stream.close();
+      throw e;
+    }
+  }
+
+  /**
+   * DRY : close the resource when the stream closed .
+   *
+   * @param <T> the type of element
+   * @param stream {@link Stream}
+   * @param resource {@link Closeable}
+   * @return the stream
+   */
+  private static <T> Stream<T> closing(final Stream<T> stream, final Closeable resource) {
+    return stream.onClose(() -> {
+      try {
+        resource.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * create the instance of specified class represented by the fields of the source, without a JSON string round-trip .
+   * <p>
+   * the fields write into {@link TokenBuffer} directly, and then deserialize from it, like as the map of fields
+   * serialize into a JSON string, and then deserialize from it .
+   * </p>
+   *
+   * @param <T> the type of instance
+   * @param source the object which has the fields
+   * @param accessors the fields of source
+   * @param excludeFieldNames field name (s) to be excludes
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return an instance of T
+   * @throws JsonProcessingException if the parameters does not match structure expected for result type
+   * @throws IOException if error occured
+   */
+  <T> T transduce(final Object source, final FieldAccessors accessors, final Set<String> excludeFieldNames, final Object valueType) throws JsonProcessingException, IOException {
+    final ObjectReader reader = reader(valueType);
+    if (source == null || reader == null) {
+      return null;
+    }
+    try (TokenBuffer buffer = new TokenBuffer(mapper, false)) {
+      accessors.write(source, excludeFieldNames, buffer, mapper.getSerializerProviderInstance());
+      try (JsonParser parser = buffer.asParser()) {
+        return reader.readValue(parser);
+      }
+    }
+  }
+
+  /**
+   * returns the {@link ObjectReader} for the type to deserialize .
+   *
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link ObjectReader}, or null if the type is not any of those
+   */
+  private ObjectReader reader(final Object valueType) {
+    final Object key = readerKey(valueType);
+    final ObjectReader reader = key == null ? null : readers.get(key);
+    if (reader != null && reader.getConfig() == mapper.getDeserializationConfig()) {
+      return reader;
+    }
+
+    return key == null ? null : readers.compute(key, (_key, _reader) -> _reader != null && _reader.getConfig() == mapper.getDeserializationConfig() ? _reader : newReader(_key));
+  }
+
+  /**
+   * DRY : returns the key of {@link #readers} which represents the type to deserialize .
+   *
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @return {@link Class}, {@link JavaType} or {@link Type} of {@link TypeReference}, or null if the type is not any of those
+   */
+  private static Object readerKey(final Object valueType) {
+    return valueType instanceof Class || valueType instanceof JavaType ? valueType : valueType instanceof TypeReference ? ((TypeReference<?>) valueType).getType() : null;
+  }
+
+  /**
+   * DRY : create {@link ObjectReader} for the type .
+   *
+   * @param key {@link JavaType} or {@link Type}
+   * @return {@link ObjectReader}
+   */
+  private ObjectReader newReader(final Object key) {
+    return mapper.readerFor(key instanceof JavaType ? (JavaType) key : mapper.getTypeFactory().constructType((Type) key));
+  }
+
+  /**
+   * returns the {@link ObjectWriter} for the type of specified object .
+   *
+   * @param source an object, may not be null
+   * @return {@link ObjectWriter}
+   */
+  private ObjectWriter writer(final Object source) {
+    final ObjectWriter writer = writers.get(source.getClass());
+    if (writer != null && writer.getConfig() == mapper.getSerializationConfig()) {
+      return writer;
+    }
+
+    return writers.compute(source.getClass(), (_key, _writer) -> _writer != null && _writer.getConfig() == mapper.getSerializationConfig() ? _writer : mapper.writerFor(_key));
+  }
+
+  /**
+   * DRY : deserialize, and report the result to {@link #listener} if registered .
+   *
+   * @param <T> the type of instance
+   * @param <EX> the type of error
+   * @param reader {@link ObjectReader}
+   * @param size the size of JSON, or -1 if unknown
+   * @param call deserialization
+   * @return an instance of T
+   * @throws EX if error occured
+   */
+  private <T, EX extends Throwable> T reading(final ObjectReader reader, final long size, final Call<T, EX> call) throws EX {
+    return listener == null ? call.call() : reading(reader.getValueType().getRawClass(), size, call);
+  }
+
+  /**
+   * DRY : deserialize, and report the result to {@link #listener} if registered .
+   *
+   * @param <T> the type of instance
+   * @param <EX> the type of error
+   * @param type the class to report
+   * @param size the size of JSON, or -1 if unknown
+   * @param call deserialization
+   * @return an instance of T
+   * @throws EX if error occured
+   */
+  <T, EX extends Throwable> T reading(final Class<?> type, final long size, final Call<T, EX> call) throws EX {
+    if (listener == null) {
+      return call.call();
+    }
+    final long started = System.nanoTime();
+    final T result;
+    try {
+      result = call.call();
+    } catch (Throwable e) {
+      listener.failed(Listener.Operation.DESERIALIZE, type, System.nanoTime() - started, e);
+      throw e;
+    }
+    listener.completed(Listener.Operation.DESERIALIZE, type, System.nanoTime() - started, size);
+
+    return result;
+  }
+
+  /**
+   * DRY : report the content which rejected before parsing to {@link #listener} as a failed deserialization, if registered .
+   *
+   * @param <T> the type of instance
+   * @param valueType {@link Class} or an instance of {@link JavaType} or {@link TypeReference}
+   * @param reason the reason why the content rejected
+   * @return null
+   */
+  private <T> T rejected(final Object valueType, final Result.Reason reason) {
+    final ObjectReader reader = listener == null ? null : reader(valueType);
+
+    return reader == null ? null : rejected(reader.getValueType().getRawClass(), reason);
+  }
+
+  /**
+   * DRY : report the content which rejected before parsing to {@link #listener} as a failed deserialization, if registered .
+   *
+   * @param <T> the type of instance
+   * @param type the class to report
+   * @param reason the reason why the content rejected
+   * @return null
+   */
+  <T> T rejected(final Class<?> type, final Result.Reason reason) {
+    if (listener != null) {
+      listener.failed(Listener.Operation.DESERIALIZE, type, 0L, Prechecks.rejected(reason));
+    }
+
+    return null;
+  }
+
+  /**
+   * DRY : serialize, and report the result to {@link #listener} if registered .
+   *
+   * @param <T> the type of result
+   * @param <EX> the type of error
+   * @param source an object, may not be null
+   * @param call serialization
+   * @param size returns the size of JSON from the result, or -1 if unknown
+   * @return the result
+   * @throws EX if error occured
+   */
+  private <T, EX extends Throwable> T writing(final Object source, final Call<T, EX> call, final ToLongFunction<T> size) throws EX {
+    if (listener == null) {
+      return call.call();
+    }
+    final Class<?> type = source instanceof BrutalSerializer.Brutal ? ((BrutalSerializer.Brutal) source).type() : source.getClass();
+    final long started = System.nanoTime();
+    final T result;
+    try {
+      result = call.call();
+    } catch (Throwable e) {
+      listener.failed(Listener.Operation.SERIALIZE, type, System.nanoTime() - started, e);
+      throw e;
+    }
+    listener.completed(Listener.Operation.SERIALIZE, type, System.nanoTime() - started, result == null ? -1 : size.applyAsLong(result));
+
+    return result;
+  }
+
+  /**
+   * the builder of {@link Profile} .
+   *
+   * @author furplag
+   *
+   */
+  public static final class Builder {
+
+    /** allows Java and YAML comments . */
+    private boolean comments;
+
+    /** allows single quotes . */
+    private boolean singleQuotes;
+
+    /** allows unquoted field names . */
+    private boolean unquotedFieldNames;
+
+    /** allows trailing commas . */
+    private boolean trailingComma;
+
+    /** deserializes date-time leniently . */
+    private boolean lenientTemporals;
+
+    /** the size of cache for lenient date-time parse results ( never caches if zero ) . */
+    private int localDateTimeCacheSize;
+
+    /** generates accessors of properties through {@link java.lang.invoke.LambdaMetafactory}, instead of reflection . */
+    private boolean blackbird;
+
+    /** returns {@link MethodHandles.Lookup} which could access the class, for the classes in named modules . */
+    private Function<Class<?>, MethodHandles.Lookup> lookups;
+
+    /** receives the result of each call . */
+    private Listener listener;
+
+    /** the pool of buffers which the tokenizer uses, or the default of Jackson if null . */
+    private RecyclerPool<BufferRecycler> recyclerPool;
+
+    /**
+     * {@link Builder} .
+     *
+     * @param lenient starts from the lenient profile if true
+     */
+    private Builder(final boolean lenient) {
+      comments = lenient;
+      singleQuotes = lenient;
+      unquotedFieldNames = lenient;
+      trailingComma = lenient;
+      lenientTemporals = lenient;
+    }
+
+    /**
+     * allows Java ( &#47;* comment *&#47; ) and YAML ( # comment ) comments, or not .
+     *
+     * @param comments allows comments if true
+     * @return this
+     */
+    public Builder comments(final boolean comments) {
+      this.comments = comments;
+
+      return this;
+    }
+
+    /**
+     * allows single quotes ( {'key': 'value'} ), or not .
+     *
+     * @param singleQuotes allows single quotes if true
+     * @return this
+     */
+    public Builder singleQuotes(final boolean singleQuotes) {
+      this.singleQuotes = singleQuotes;
+
+      return this;
+    }
+
+    /**
+     * allows unquoted field names ( {key: "value"} ), or not .
+     *
+     * @param unquotedFieldNames allows unquoted field names if true
+     * @return this
+     */
+    public Builder unquotedFieldNames(final boolean unquotedFieldNames) {
+      this.unquotedFieldNames = unquotedFieldNames;
+
+      return this;
+    }
+
+    /**
+     * allows trailing commas ( {"key": "value", } ), or not .
+     *
+     * @param trailingComma allows trailing commas if true
+     * @return this
+     */
+    public Builder trailingComma(final boolean trailingComma) {
+      this.trailingComma = trailingComma;
+
+      return this;
+    }
+
+    /**
+     * deserializes date-time leniently, or only in the formats which {@link JavaTimeModule} accepts .
+     *
+     * @param lenientTemporals deserializes date-time leniently if true
+     * @return this
+     */
+    public Builder lenientTemporals(final boolean lenientTemporals) {
+      this.lenientTemporals = lenientTemporals;
+
+      return this;
+    }
+
+    /**
+     * the size of cache for lenient date-time parse results, the cache owned by the profile .
+     *
+     * @param localDateTimeCacheSize the size of cache, never caches if zero or less
+     * @return this
+     */
+    public Builder localDateTimeCacheSize(final int localDateTimeCacheSize) {
+      this.localDateTimeCacheSize = localDateTimeCacheSize;
+
+      return this;
+    }
+
+    /**
+     * generates accessors of properties through {@link java.lang.invoke.LambdaMetafactory}, or uses reflection .
+     * <p>
+     * accessors are the plain classes which JIT compiler inlines, and falls back to reflection for the property which could not access .
+     * </p>
+     *
+     * @param blackbird generates accessors if true
+     * @return this
+     * @see BlackbirdModule
+     */
+    public Builder blackbird(final boolean blackbird) {
+      this.blackbird = blackbird;
+      this.lookups = null;
+
+      return this;
+    }
+
+    /**
+     * generates accessors of properties through {@link java.lang.invoke.LambdaMetafactory}, using the lookup which could access the class .
+     * <p>
+     * for the classes in the named module which not opens the package to Jackson,
+     * e.g. {@code (type) -> MethodHandles.privateLookupIn(type, MethodHandles.lookup())} in the module .
+     * </p>
+     *
+     * @param lookups returns {@link MethodHandles.Lookup} for the class, uses reflection if null
+     * @return this
+     * @see BlackbirdModule#BlackbirdModule(Function)
+     */
+    public Builder blackbird(final Function<Class<?>, MethodHandles.Lookup> lookups) {
+      this.blackbird = lookups != null;
+      this.lookups = lookups;
+
+      return this;
+    }
+
+    /**
+     * the listener which receives the result of each serialization and deserialization, e.g. {@link jp.furplag.data.json.metrics.Metrics} .
+     * <p>
+     * the streams of records ( JSON Lines, elements of JSON array and the chunks in and out ) are not reported, and nothing reports if null .
+     * the content which rejected before parsing reports as a failed deserialization, and the values of {@link Projection} report as an array of {@link Object} .
+     * </p>
+     *
+     * @param listener {@link Listener}, or null
+     * @return this
+     */
+    public Builder listener(final Listener listener) {
+      this.listener = listener;
+
+      return this;
+    }
+
+    /**
+     * the pool of buffers which the tokenizer uses, the one per thread in {@link ThreadLocal} by default .
+     * <p>
+     * the default never reuses the buffers between threads, so that the threads which live shortly ( e.g. virtual threads ) allocate the buffers for each,
+     * use {@link StripedRecyclerPool} or the one which {@link com.fasterxml.jackson.core.util.JsonRecyclerPools} provides in that case .
+     * </p>
+     *
+     * @param recyclerPool {@link RecyclerPool}, or null to use the default
+     * @return this
+     */
+    public Builder recyclerPool(final RecyclerPool<BufferRecycler> recyclerPool) {
+      this.recyclerPool = recyclerPool;
+
+      return this;
+    }
+
+    /**
+     * returns the {@link Profile} .
+     *
+     * @return {@link Profile}
+     */
+    public Profile build() {
+      return new Profile(this);
+    }
+  }
+}
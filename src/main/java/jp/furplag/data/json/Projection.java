@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jp.furplag.data.json.stream.PointerMatcher;
+import jp.furplag.sandbox.trebuchet.Trebuchet;
+
+/**
+ * the set of JSON Pointers which compiled once, to extract all of the values from the JSON in one pass .
+ * <p>
+ * only the values bind without the tree of whole content, every subtree which not on any path skips,
+ * and the content after all of the values found never reads .
+ * the projection is immutable and thread-safe, so that it could be cached and shared .
+ * the types of values resolve when compiled, using the configuration of the profile at the time .
+ * </p>
+ *
+ * @author furplag
+ *
+ * @param <R> the type of result, which is the array of values in the order of pointers, or the object which created from the array
+ */
+public final class Projection<R> {
+
+  /** the profile which reports to the listener . */
+  private final Profile profile;
+
+  /** {@link ObjectMapper} which creates the parser . */
+  private final ObjectMapper mapper;
+
+  /** the pointers which compiled . */
+  private final PointerMatcher matcher;
+
+  /** create the result from the values . */
+  private final Function<Object[], R> result;
+
+  /** the profile allows comments, for the prechecks . */
+  private final boolean comments;
+
+  /** the profile allows single quotes, for the prechecks . */
+  private final boolean singleQuotes;
+
+  /**
+   * {@link Projection} .
+   *
+   * @param profile the profile which reports to the listener
+   * @param mapper {@link ObjectMapper} which creates the parser
+   * @param matcher the pointers which compiled
+   * @param result create the result from the values
+   * @param comments the profile allows comments
+   * @param singleQuotes the profile allows single quotes
+   */
+  Projection(final Profile profile, final ObjectMapper mapper, final PointerMatcher matcher, final Function<Object[], R> result, final boolean comments, final boolean singleQuotes) {
+    this.profile = profile;
+    this.mapper = mapper;
+    this.matcher = matcher;
+    this.result = result;
+    this.comments = comments;
+    this.singleQuotes = singleQuotes;
+  }
+
+  /**
+   * returns the projection which creates the result ( e.g. a record ) from the values, sharing the pointers which already compiled .
+   *
+   * @param <S> the type of result
+   * @param result create the result from the values in the order of pointers
+   * @return {@link Projection}
+   */
+  public <S> Projection<S> as(final Function<Object[], S> result) {
+    return new Projection<>(profile, mapper, matcher, result, comments, singleQuotes);
+  }
+
+  /**
+   * returns the number of pointers .
+   *
+   * @return the number of pointers
+   */
+  public int size() {
+    return matcher.size();
+  }
+
+  /**
+   * extract the values from the JSON String .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param content a text which maybe JSON formatted
+   * @return the result, or null if error occurs
+   */
+  public R extract(final String content) {
+    final Result.Reason rejected = Prechecks.check(content, comments, singleQuotes);
+
+    return rejected != null ? profile.rejected(Object[].class, rejected) : Trebuchet.Functions.orNot(content, this::extractStrictly);
+  }
+
+  /**
+   * extract the values from the UTF-8 encoded JSON .
+   * <p>
+   * the content which obviously not JSON ( e.g. HTML, empty or truncated ) returns null without parsing .
+   * </p>
+   *
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @return the result, or null if error occurs
+   */
+  public R extract(final byte[] content, final int offset, final int length) {
+    final Result.Reason rejected = Prechecks.check(content, offset, length, comments, singleQuotes);
+
+    return rejected != null ? profile.rejected(Object[].class, rejected) : Trebuchet.Functions.orNot(content, (_content) -> extractStrictly(_content, offset, length));
+  }
+
+  /**
+   * extract the values from the JSON stream, the stream never closes .
+   *
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @return the result, or null if error occurs
+   */
+  public R extract(final InputStream content) {
+    return Trebuchet.Functions.orNot(content, this::extractStrictly);
+  }
+
+  /**
+   * extract the values from the JSON String .
+   *
+   * @param content a text which maybe JSON formatted
+   * @return the result, the value not found is null, or null if the content is null
+   * @throws JsonProcessingException if the content is not a valid JSON, or any of values does not match structure expected for the type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public R extractStrictly(final String content) throws JsonProcessingException, IOException {
+    if (content == null) {
+      return null;
+    }
+
+    return result.apply(profile.reading(Object[].class, content.length(), () -> {
+      try (JsonParser parser = mapper.createParser(content)) {
+        return matcher.match(parser);
+      }
+    }));
+  }
+
+  /**
+   * extract the values from the UTF-8 encoded JSON .
+   *
+   * @param content bytes which maybe JSON formatted
+   * @param offset the offset in the content
+   * @param length the number of bytes to read
+   * @return the result, the value not found is null, or null if the content is null
+   * @throws JsonProcessingException if the content is not a valid JSON, or any of values does not match structure expected for the type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public R extractStrictly(final byte[] content, final int offset, final int length) throws JsonProcessingException, IOException {
+    if (content == null) {
+      return null;
+    }
+
+    return result.apply(profile.reading(Object[].class, length, () -> {
+      try (JsonParser parser = mapper.createParser(content, offset, length)) {
+        return matcher.match(parser);
+      }
+    }));
+  }
+
+  /**
+   * extract the values from the JSON stream, the stream never closes .
+   *
+   * @param content {@link InputStream} which maybe JSON formatted
+   * @return the result, the value not found is null, or null if the content is null
+   * @throws JsonProcessingException if the content is not a valid JSON, or any of values does not match structure expected for the type
+   * @throws IOException if a low-level I/O problem (unexpected end-of-input, network error) occurs
+   */
+  public R extractStrictly(final InputStream content) throws JsonProcessingException, IOException {
+    if (content == null) {
+      return null;
+    }
+
+    return result.apply(profile.reading(Object[].class, -1, () -> {
+      try (JsonParser parser = mapper.createParser(content)) {
+        return matcher.match(parser);
+      }
+    }));
+  }
+}
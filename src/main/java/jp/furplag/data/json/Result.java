@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * the result of deserialization, which is the value, or the reason why failed without any stack trace .
+ *
+ * @author furplag
+ *
+ * @param <T> the type of value
+ */
+public final class Result<T> {
+
+  /**
+   * the reason why the deserialization failed .
+   *
+   * @author furplag
+   *
+   */
+  public enum Reason {
+
+    /** the type to deserialize is not any of {@link Class}, {@link com.fasterxml.jackson.databind.JavaType} and {@link com.fasterxml.jackson.core.type.TypeReference} . */
+    UNKNOWN_TYPE,
+
+    /** the content is null, empty or blank . */
+    EMPTY,
+
+    /** the content could not start JSON, e.g. HTML or a plain text . */
+    NOT_JSON,
+
+    /** the content ends before the end of JSON . */
+    TRUNCATED,
+
+    /** the content is not well-formed JSON . */
+    MALFORMED,
+
+    /** the JSON could not map to the type . */
+    MISMATCHED,
+
+    /** any other error . */
+    FAILURE;
+  }
+
+  /** the results which rejected before parsing, shares per reason . */
+  private static final Map<Reason, Result<?>> rejections = new EnumMap<>(Reason.class);
+  static {
+    for (Reason reason : Reason.values()) {
+      rejections.put(reason, new Result<>(null, reason, null));
+    }
+  }
+
+  /** the value, may be null . */
+  private final T value;
+
+  /** the reason why failed, or null if succeeded . */
+  private final Reason reason;
+
+  /** the message of error, may be null . */
+  private final String message;
+
+  /**
+   * {@link Result} .
+   *
+   * @param value the value
+   * @param reason the reason why failed, or null if succeeded
+   * @param message the message of error
+   */
+  private Result(final T value, final Reason reason, final String message) {
+    this.value = value;
+    this.reason = reason;
+    this.message = message;
+  }
+
+  /**
+   * returns the result which succeeded .
+   *
+   * @param <T> the type of value
+   * @param value the value, may be null
+   * @return {@link Result}
+   */
+  static <T> Result<T> of(final T value) {
+    return new Result<>(value, null, null);
+  }
+
+  /**
+   * returns the result which rejected before parsing, never allocates .
+   *
+   * @param <T> the type of value
+   * @param reason the reason why rejected
+   * @return {@link Result}
+   */
+  @SuppressWarnings({ "unchecked" })
+  static <T> Result<T> rejected(final Reason reason) {
+    return (Result<T>) rejections.get(Objects.requireNonNullElse(reason, Reason.FAILURE));
+  }
+
+  /**
+   * returns the result which failed, the error is not kept but its message .
+   *
+   * @param <T> the type of value
+   * @param error anything thrown
+   * @return {@link Result}
+   */
+  static <T> Result<T> failed(final Throwable error) {
+    final Reason reason = error instanceof JsonEOFException ? Reason.TRUNCATED : error instanceof JsonParseException ? Reason.MALFORMED : error instanceof JsonMappingException ? Reason.MISMATCHED : Reason.FAILURE;
+
+    return new Result<>(null, reason, error instanceof JsonProcessingException ? ((JsonProcessingException) error).getOriginalMessage() : error == null ? null : error.getMessage());
+  }
+
+  /**
+   * test if the deserialization succeeded .
+   *
+   * @return true if succeeded
+   */
+  public boolean isSucceeded() {
+    return reason == null;
+  }
+
+  /**
+   * returns the value .
+   *
+   * @return the value, or null if failed
+   */
+  public T value() {
+    return value;
+  }
+
+  /**
+   * returns the value, or the other one if failed .
+   *
+   * @param other the value if failed
+   * @return the value, or the other one if failed
+   */
+  public T orElse(final T other) {
+    return isSucceeded() ? value : other;
+  }
+
+  /**
+   * returns the reason why failed .
+   *
+   * @return {@link Reason}, or null if succeeded
+   */
+  public Reason reason() {
+    return reason;
+  }
+
+  /**
+   * returns the message of error .
+   *
+   * @return the message of error, or null if succeeded or rejected before parsing
+   */
+  public String message() {
+    return message;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return isSucceeded() ? String.format("Result[%s]", value) : String.format("Result[%s%s]", reason, message == null ? "" : ": " + message);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+/**
+ * the bounded and lock-free pool of {@link BufferRecycler}, which stripes by the thread .
+ * <p>
+ * the default pool of Jackson holds the recycler per thread in {@link ThreadLocal},
+ * so that the thread which lives shortly ( e.g. a virtual thread per request ) never reuses the buffers .
+ * this pool shares the recyclers between threads instead, the stripe which the thread uses is determined by the id of thread,
+ * and the recycler which exceeds the capacity of the stripe drops to the garbage .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class StripedRecyclerPool implements RecyclerPool<BufferRecycler> {
+
+  private static final long serialVersionUID = 1L;
+
+  /** the number of recyclers per stripe by default . */
+  private static final int defaultSlots = 4;
+
+  /** the number of stripes, power of two . */
+  private final int stripes;
+
+  /** the number of recyclers per stripe . */
+  private final int slots;
+
+  /** the recyclers, which the slots of each stripe are contiguous . */
+  private final transient AtomicReferenceArray<BufferRecycler> recyclers;
+
+  /**
+   * {@link StripedRecyclerPool} which has the stripes as many as processors .
+   */
+  public StripedRecyclerPool() {
+    this(Runtime.getRuntime().availableProcessors(), defaultSlots);
+  }
+
+  /**
+   * {@link StripedRecyclerPool} .
+   *
+   * @param stripes the number of stripes, rounds up to power of two
+   * @param slots the number of recyclers per stripe
+   */
+  public StripedRecyclerPool(final int stripes, final int slots) {
+    this.stripes = Integer.highestOneBit(Math.max(1, stripes) * 2 - 1);
+    this.slots = Math.max(1, slots);
+    recyclers = new AtomicReferenceArray<>(this.stripes * this.slots);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public BufferRecycler acquirePooled() {
+    final int start = stripe() * slots;
+    for (int i = start; i < start + slots; i++) {
+      final BufferRecycler recycler = recyclers.get(i);
+      if (recycler != null && recyclers.compareAndSet(i, recycler, null)) {
+        return recycler;
+      }
+    }
+
+    return new BufferRecycler();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void releasePooled(final BufferRecycler recycler) {
+    final int start = stripe() * slots;
+    for (int i = start; i < start + slots; i++) {
+      if (recyclers.get(i) == null && recyclers.compareAndSet(i, null, recycler)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * returns the number of recyclers which this pool holds at most .
+   *
+   * @return the capacity
+   */
+  public int capacity() {
+    return recyclers.length();
+  }
+
+  /**
+   * returns the number of recyclers which this pool holds now .
+   *
+   * @return the number of recyclers
+   */
+  public int size() {
+    int size = 0;
+    for (int i = 0; i < recyclers.length(); i++) {
+      size += recyclers.get(i) == null ? 0 : 1;
+    }
+
+    return size;
+  }
+
+  /**
+   * DRY : returns the stripe which the current thread uses .
+   *
+   * @return the index of stripe
+   */
+  private int stripe() {
+    return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 32) & (stripes - 1);
+  }
+
+  /**
+   * the pool never serializes the recyclers, but the size of it .
+   *
+   * @return {@link StripedRecyclerPool} which is empty
+   */
+  private Object readResolve() {
+    return new StripedRecyclerPool(stripes, slots);
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.JSR310DateTimeDeserializerBase;
+
+/**
+ * leniently deserialization for java.time.Instant, java.time.OffsetDateTime and java.time.ZonedDateTime .
+ * <p>
+ * ISO-8601 format and epoch number ( e.g. 1483228800, "1483228800.5" ) deserialize as the same as {@link InstantDeserializer} does,
+ * and the other text parses as the same as {@link LenientlyLocalDateTimeDeserializer} with the zone designator at the end ( e.g. "2017/01/01 12:34 +09:00", "2017/01/01 12:34[Asia/Tokyo]" ) if any,
+ * or the time zone of the context if not designated .
+ * </p>
+ *
+ * @author furplag
+ *
+ * @param <T> the type of {@link Temporal}
+ */
+public final class LenientlyInstantDeserializer<T extends Temporal> extends InstantDeserializer<T> {
+
+  private static final long serialVersionUID = 1L;
+
+  /** leniently deserialization for {@link Instant} . */
+  public static final LenientlyInstantDeserializer<Instant> instant = new LenientlyInstantDeserializer<>(InstantDeserializer.INSTANT, DateTimeFormatter.ISO_INSTANT, ZonedDateTime::toInstant);
+
+  /** leniently deserialization for {@link OffsetDateTime} . */
+  public static final LenientlyInstantDeserializer<OffsetDateTime> offsetDateTime = new LenientlyInstantDeserializer<>(InstantDeserializer.OFFSET_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, ZonedDateTime::toOffsetDateTime);
+
+  /** leniently deserialization for {@link ZonedDateTime} . */
+  public static final LenientlyInstantDeserializer<ZonedDateTime> zonedDateTime = new LenientlyInstantDeserializer<>(InstantDeserializer.ZONED_DATE_TIME, DateTimeFormatter.ISO_ZONED_DATE_TIME, Function.identity());
+
+  /** converts the result of lenient parsing to T . */
+  private final transient Function<ZonedDateTime, T> converter;
+
+  /**
+   * {@link LenientlyInstantDeserializer} .
+   *
+   * @param base {@link InstantDeserializer}
+   * @param formatter the formatter of base
+   * @param converter converts the result of lenient parsing to T
+   */
+  private LenientlyInstantDeserializer(final InstantDeserializer<T> base, final DateTimeFormatter formatter, final Function<ZonedDateTime, T> converter) {
+    super(base, formatter);
+    this.converter = converter;
+  }
+
+  /**
+   * {@link LenientlyInstantDeserializer} .
+   *
+   * @param base {@link LenientlyInstantDeserializer}
+   * @param formatter {@link DateTimeFormatter}
+   * @param leniency the leniency of base
+   */
+  private LenientlyInstantDeserializer(final LenientlyInstantDeserializer<T> base, final DateTimeFormatter formatter, final Boolean leniency) {
+    super(base, formatter, leniency);
+    this.converter = base.converter;
+  }
+
+  /**
+   * {@link LenientlyInstantDeserializer} .
+   *
+   * @param base {@link LenientlyInstantDeserializer}
+   * @param leniency the leniency of base
+   * @param formatter {@link DateTimeFormatter}
+   * @param shape {@link JsonFormat.Shape}
+   * @param adjustToContextTimezone overrides {@link com.fasterxml.jackson.databind.DeserializationFeature#ADJUST_DATES_TO_CONTEXT_TIME_ZONE}, if not null
+   * @param readTimestampsAsNanoseconds overrides {@link com.fasterxml.jackson.databind.DeserializationFeature#READ_DATE_TIMESTAMPS_AS_NANOSECONDS}, if not null
+   */
+  private LenientlyInstantDeserializer(final LenientlyInstantDeserializer<T> base, final Boolean leniency, final DateTimeFormatter formatter, final JsonFormat.Shape shape, final Boolean adjustToContextTimezone, final Boolean readTimestampsAsNanoseconds) {
+    super(base, leniency, formatter, shape, adjustToContextTimezone, readTimestampsAsNanoseconds);
+    this.converter = base.converter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LenientlyInstantDeserializer<T> withDateFormat(DateTimeFormatter formatter) {
+    return formatter == _formatter ? this : new LenientlyInstantDeserializer<>(this, formatter, converter);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LenientlyInstantDeserializer<T> withLeniency(Boolean leniency) {
+    return new LenientlyInstantDeserializer<>(this, _formatter, leniency);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LenientlyInstantDeserializer<T> withShape(JsonFormat.Shape shape) {
+    return shape == _shape ? this : new LenientlyInstantDeserializer<>(this, _isLenient, _formatter, shape, _adjustToContextTZOverride, _readTimestampsAsNanosOverride);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * the overrides of time zone adjustment and timestamps apply to this, because {@link InstantDeserializer} does
+   * those using a new {@link InstantDeserializer} which never deserialize leniently .
+   * </p>
+   */
+  @Override
+  protected JSR310DateTimeDeserializerBase<?> _withFormatOverrides(DeserializationContext context, BeanProperty property, JsonFormat.Value formatOverrides) {
+    final Boolean adjustToContextTimezone = formatOverrides.getFeature(JsonFormat.Feature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    final Boolean readTimestampsAsNanoseconds = formatOverrides.getFeature(JsonFormat.Feature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
+    @SuppressWarnings({ "unchecked" })
+    final LenientlyInstantDeserializer<T> deserializer = (LenientlyInstantDeserializer<T>) super._withFormatOverrides(context, property, withTemporalFeatures(formatOverrides, _adjustToContextTZOverride, _readTimestampsAsNanosOverride));
+
+    return Objects.equals(adjustToContextTimezone, deserializer._adjustToContextTZOverride) && Objects.equals(readTimestampsAsNanoseconds, deserializer._readTimestampsAsNanosOverride) ? deserializer
+      : new LenientlyInstantDeserializer<>(deserializer, deserializer._isLenient, deserializer._formatter, deserializer._shape, adjustToContextTimezone, readTimestampsAsNanoseconds);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    if (TemporalScanner.isNotISO(parser, context, "Tt") && !TemporalScanner.isNumeric(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())) {
+      final T scanned = leniently(parser, context, true);
+      if (scanned != null) {
+        return scanned;
+      }
+    }
+    try {
+      return super.deserialize(parser, context);
+    } catch (DateTimeException | JsonMappingException e) {}
+
+    return leniently(parser, context, false);
+  }
+
+  /**
+   * deserialize leniently .
+   *
+   * @param parser {@link JsonParser}
+   * @param context {@link DeserializationContext}
+   * @param scanOnly never falls back to the regular expressions if true
+   * @return T, or null if the text could not parse
+   * @throws IOException if error occurs
+   */
+  private T leniently(final JsonParser parser, final DeserializationContext context, final boolean scanOnly) throws IOException {
+    final char[] chars = parser.getTextCharacters();
+    if (chars == null) {
+      return null;
+    }
+    final int offset = parser.getTextOffset();
+    final int end = offset + parser.getTextLength();
+    try {
+      final int zoneStart = TemporalScanner.zoneStart(chars, offset, end - offset);
+      final int localEnd = TemporalScanner.localEnd(chars, offset, zoneStart);
+      final LocalDateTime local = scanOnly ? TemporalScanner.scan(chars, offset, localEnd - offset) : TemporalScanner.leniently(chars, offset, localEnd - offset);
+      if (local == null || local == TemporalScanner.undetermined) {
+        return null;
+      }
+      final ZoneId zone = TemporalScanner.zone(chars, zoneStart, end);
+      final T value = converter.apply(ZonedDateTime.of(local, zone != null ? zone : context.getTimeZone().toZoneId()));
+
+      return value instanceof Instant || !shouldAdjustToContextTimezone(context) ? value : adjust.apply(value, context.getTimeZone().toZoneId());
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * DRY : returns the format overrides, which the features of time zone adjustment and timestamps replaced .
+   *
+   * @param formatOverrides {@link JsonFormat.Value}
+   * @param adjustToContextTimezone {@link JsonFormat.Feature#ADJUST_DATES_TO_CONTEXT_TIME_ZONE}, or null if not specified
+   * @param readTimestampsAsNanoseconds {@link JsonFormat.Feature#READ_DATE_TIMESTAMPS_AS_NANOSECONDS}, or null if not specified
+   * @return {@link JsonFormat.Value}
+   */
+  private static JsonFormat.Value withTemporalFeatures(final JsonFormat.Value formatOverrides, final Boolean adjustToContextTimezone, final Boolean readTimestampsAsNanoseconds) {
+    final List<JsonFormat.Feature> enabled = new ArrayList<>();
+    final List<JsonFormat.Feature> disabled = new ArrayList<>();
+    for (JsonFormat.Feature feature : JsonFormat.Feature.values()) {
+      final Boolean enable = JsonFormat.Feature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE.equals(feature) ? adjustToContextTimezone : JsonFormat.Feature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS.equals(feature) ? readTimestampsAsNanoseconds : formatOverrides.getFeature(feature);
+      if (enable != null) {
+        (enable ? enabled : disabled).add(feature);
+      }
+    }
+
+    return new JsonFormat.Value(formatOverrides.getPattern(), formatOverrides.getShape(), formatOverrides.getLocale(), formatOverrides.timeZoneAsString(), null, JsonFormat.Features.construct(enabled.toArray(JsonFormat.Feature[]::new), disabled.toArray(JsonFormat.Feature[]::new)), formatOverrides.getLenient());
+  }
+}
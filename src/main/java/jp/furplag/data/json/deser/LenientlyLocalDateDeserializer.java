@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+
+/**
+ * leniently deserialization for java.time.LocalDate .
+ * <p>
+ * the text parses as the same as {@link LenientlyLocalDateTimeDeserializer}, and then the time drops .
+ * the zone designator at the end of the text is ignored, because the date is local .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class LenientlyLocalDateDeserializer extends LocalDateDeserializer {
+
+  /** unnecessary, maybe . */
+  public LenientlyLocalDateDeserializer() {
+    super();
+  }
+
+  /**
+   * {@link LenientlyLocalDateDeserializer} .
+   *
+   * @param base {@link LocalDateDeserializer}
+   * @param formatter {@link DateTimeFormatter}
+   */
+  private LenientlyLocalDateDeserializer(final LocalDateDeserializer base, final DateTimeFormatter formatter) {
+    super(base, formatter);
+  }
+
+  /**
+   * {@link LenientlyLocalDateDeserializer} .
+   *
+   * @param base {@link LocalDateDeserializer}
+   * @param leniency the leniency of base
+   */
+  private LenientlyLocalDateDeserializer(final LocalDateDeserializer base, final Boolean leniency) {
+    super(base, leniency);
+  }
+
+  /**
+   * {@link LenientlyLocalDateDeserializer} .
+   *
+   * @param base {@link LocalDateDeserializer}
+   * @param shape {@link JsonFormat.Shape}
+   */
+  private LenientlyLocalDateDeserializer(final LocalDateDeserializer base, final JsonFormat.Shape shape) {
+    super(base, shape);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LenientlyLocalDateDeserializer withDateFormat(DateTimeFormatter formatter) {
+    return new LenientlyLocalDateDeserializer(this, formatter);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LenientlyLocalDateDeserializer withLeniency(Boolean leniency) {
+    return new LenientlyLocalDateDeserializer(this, leniency);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LenientlyLocalDateDeserializer withShape(JsonFormat.Shape shape) {
+    return new LenientlyLocalDateDeserializer(this, shape);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    final LocalDateTime scanned = TemporalScanner.isNotISO(parser, context, "-") ? leniently(parser, true) : TemporalScanner.undetermined;
+    if (scanned != TemporalScanner.undetermined) {
+      return scanned == null ? null : scanned.toLocalDate();
+    }
+    try {
+      return super.deserialize(parser, context);
+    } catch (DateTimeException | JsonMappingException e) {}
+    final LocalDateTime leniently = leniently(parser, false);
+
+    return leniently == null ? null : leniently.toLocalDate();
+  }
+
+  /**
+   * deserialize leniently, the zone designator at the end of the text is ignored .
+   *
+   * @param parser {@link JsonParser}
+   * @param scanOnly never falls back to the regular expressions if true
+   * @return {@link LocalDateTime}, {@link TemporalScanner#undetermined} if scanOnly and could not determine, or null if the text could not parse
+   * @throws IOException if error occurs
+   */
+  private static LocalDateTime leniently(final JsonParser parser, final boolean scanOnly) throws IOException {
+    final char[] chars = parser.getTextCharacters();
+    if (chars == null) {
+      return scanOnly ? TemporalScanner.undetermined : null;
+    }
+    final int offset = parser.getTextOffset();
+    final int length = TemporalScanner.localEnd(chars, offset, TemporalScanner.zoneStart(chars, offset, parser.getTextLength())) - offset;
+
+    return scanOnly ? TemporalScanner.scan(chars, offset, length) : TemporalScanner.leniently(chars, offset, length);
+  }
+}
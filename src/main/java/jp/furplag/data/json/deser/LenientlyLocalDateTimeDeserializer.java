@@ -17,25 +17,16 @@ package jp.furplag.data.json.deser;
 
 import java.io.IOException;
 import java.time.DateTimeException;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 
-import jp.furplag.sandbox.stream.Streamr;
-import jp.furplag.sandbox.text.Commonizr;
-import jp.furplag.sandbox.trebuchet.Trebuchet;
-
 /**
  * leniently deserialization for java.time.LocalDateTime .
  *
@@ -44,44 +35,57 @@ import jp.furplag.sandbox.trebuchet.Trebuchet;
  */
 public final class LenientlyLocalDateTimeDeserializer extends LocalDateTimeDeserializer {
 
-  /** container of {@link LocalDateTime} parser which includes {@link DateTimeFormatter} . */
-  private static final Map<Integer, Function<Long[], LocalDateTime>> parsers = Collections.unmodifiableMap(new HashMap<>() {{/* @formatter:off */
-    final Function<String, DateTimeFormatter> dateTimeFormatter = (pattern) -> DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.LENIENT);
-    put(1, (args) -> LocalDate.parse(Objects.toString(args[0]), dateTimeFormatter.apply("yMMdd")).atStartOfDay());
-    put(3, (args) -> LocalDate.parse(String.format("%04d-%02d-%02d", (Object[]) args), dateTimeFormatter.apply("y-M-d")).atStartOfDay());
-    put(4, (args) -> LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d", (Object[]) args), dateTimeFormatter.apply("y-M-d'T'H")));
-    put(5, (args) -> LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d:%02d", (Object[]) args), dateTimeFormatter.apply("y-M-d'T'H:m")));
-    put(6, (args) -> LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d:%02d:%02d", (Object[]) args), dateTimeFormatter.apply("y-M-d'T'H:m:s")));
-    put(7, (args) -> {
-      args[args.length - 2] += (args[args.length - 1] / 1000);
-      args[args.length - 1] %= 1000;
-      return LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d:%02d:%02d.%03d", (Object[]) args), dateTimeFormatter.apply("y-M-d'T'H:m:s.SSS"));
-    });
-  }});
-
-  /** intermediates for deserializing {@link String} to {@link LocalDateTime} . */
-  private static final Function<String, String[]> optimizr = Trebuchet.Functions.Uni.of(Commonizr::optimize)
-    .andThen((t) -> t.replaceAll("[\\D]*[\\D&&[^\\-]]", "."))
-    .andThen((t) -> t.replaceAll("(^\\.)|(\\.$)", ""))
-    .andThen((t) -> t.replaceAll("(\\d)\\D+(\\d)", "$1.$2"))
-    .andThen((t) -> t.split("\\.+", 8));
-
-  /** deserialize to {@link LocalDateTime} using the one of {@link #parsers} which seems to fit . */
-  private static final Function<String, LocalDateTime> deserializr = (t) -> Trebuchet.Functions.orNot(argumentify(t), (x) -> parsers.get(x.length).apply(x));
+  /** the cache of parse results, or null if not cached . */
+  private final transient ParseCache<LocalDateTime> cache;
 
   /** unnecessary, maybe . */
   public LenientlyLocalDateTimeDeserializer() {
+    this(0);
+  }
+
+  /**
+   * {@link LenientlyLocalDateTimeDeserializer} which caches parse results keyed by the raw text .
+   *
+   * @param cacheSize the number of parse results to cache, never caches if zero or less
+   */
+  public LenientlyLocalDateTimeDeserializer(final int cacheSize) {
     super(DateTimeFormatter.ISO_LOCAL_DATE_TIME.withResolverStyle(ResolverStyle.LENIENT));
+    cache = cacheSize > 0 ? new ParseCache<>(cacheSize) : null;
+  }
+
+  /**
+   * returns the number of parse results which found in the cache .
+   *
+   * @return the number of cache hits, or zero if not cached
+   */
+  public long cacheHits() {
+    return cache == null ? 0 : cache.hits();
   }
 
   /**
-   * intermediates for deserializing {@link String} to {@link LocalDateTime} .
+   * returns the number of parse results which not found in the cache .
    *
-   * @param text the text which possibly parsable to {@link LocalDateTime}
-   * @return the array of numerics
+   * @return the number of cache misses, or zero if not cached
    */
-  private static final Long[] argumentify(final String text) {
-    return Streamr.stream(optimizr.apply(text)).map(Long::valueOf).mapToLong(Long::longValue).boxed().toArray(Long[]::new);
+  public long cacheMisses() {
+    return cache == null ? 0 : cache.misses();
+  }
+
+  /**
+   * test if the parse result of the token could be cached, the result of blank text depends on the configuration, so never cached .
+   *
+   * @param parser {@link JsonParser}
+   * @param context {@link DeserializationContext}
+   * @return true if the parse result could be cached
+   * @throws IOException if error occurs
+   */
+  private boolean isCacheable(final JsonParser parser, final DeserializationContext context) throws IOException {
+    if (cache == null || !parser.hasToken(JsonToken.VALUE_STRING) || parser.getTextLength() < 1 || context.getConfig().getProblemHandlers() != null) {
+      return false;
+    }
+    final char[] chars = parser.getTextCharacters();
+
+    return chars[parser.getTextOffset()] > ' ' && chars[parser.getTextOffset() + parser.getTextLength() - 1] > ' ';
   }
 
   /**
@@ -89,10 +93,39 @@ public final class LenientlyLocalDateTimeDeserializer extends LocalDateTimeDeser
    */
   @Override
   public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    if (!isCacheable(parser, context)) {
+      return parse(parser, context);
+    }
+    final char[] chars = parser.getTextCharacters();
+    final int offset = parser.getTextOffset();
+    final int length = parser.getTextLength();
+    final ParseCache.Entry<LocalDateTime> cached = cache.get(chars, offset, length);
+    if (cached != null) {
+      return cached.value();
+    }
+    final LocalDateTime value = parse(parser, context);
+    cache.put(chars, offset, length, value);
+
+    return value;
+  }
+
+  /**
+   * deserialize to {@link LocalDateTime}, using ISO-8601 format or leniently .
+   *
+   * @param parser {@link JsonParser}
+   * @param context {@link DeserializationContext}
+   * @return {@link LocalDateTime}, or null if the text could not parse
+   * @throws IOException if error occurs
+   */
+  private LocalDateTime parse(final JsonParser parser, final DeserializationContext context) throws IOException {
+    final LocalDateTime scanned = TemporalScanner.isNotISO(parser, context, "Tt") ? TemporalScanner.scan(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength()) : TemporalScanner.undetermined;
+    if (scanned != TemporalScanner.undetermined) {
+      return scanned;
+    }
     try {
       return super.deserialize(parser, context);
     } catch (DateTimeException | JsonMappingException e) {}
 
-    return Trebuchet.Functions.orNot(parser.getText(), deserializr::apply);
+    return TemporalScanner.leniently(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
   }
 }
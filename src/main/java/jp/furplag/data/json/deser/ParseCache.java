@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * the bounded cache of parse results, keyed by the raw text of the token .
+ * <p>
+ * set-associative, and evicts entries using CLOCK ( second chance ) in each set .
+ * reads never lock nor create the key, so that the text in the buffer of parser could lookup directly .
+ * the writes which race each other may lose the entry, but never break the cache .
+ * </p>
+ *
+ * @author furplag
+ *
+ * @param <T> the type of parse result
+ */
+final class ParseCache<T> {
+
+  /** the number of entries in a set . */
+  private static final int ways = 4;
+
+  /** the number of entries at most . */
+  private static final int maxSize = 1 << 20;
+
+  /**
+   * the entry of cache .
+   *
+   * @author furplag
+   *
+   * @param <T> the type of parse result
+   */
+  static final class Entry<T> {
+
+    /** the raw text . */
+    private final String key;
+
+    /** the hash code of key . */
+    private final int hash;
+
+    /** the parse result, may be null . */
+    private final T value;
+
+    /** the entry has read since the hand of clock passed, races are harmless . */
+    private boolean referenced;
+
+    /**
+     * {@link Entry} .
+     *
+     * @param key the raw text
+     * @param hash the hash code of key
+     * @param value the parse result
+     */
+    private Entry(final String key, final int hash, final T value) {
+      this.key = key;
+      this.hash = hash;
+      this.value = value;
+    }
+
+    /**
+     * returns the parse result .
+     *
+     * @return the parse result, may be null
+     */
+    T value() {
+      return value;
+    }
+
+    /**
+     * test if the key equals to the text .
+     *
+     * @param chars the buffer which contains the text
+     * @param offset the offset of the text in the buffer
+     * @param length the length of the text
+     * @return true if the key equals to the text
+     */
+    private boolean matches(final char[] chars, final int offset, final int length) {
+      if (key.length() != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (key.charAt(i) != chars[offset + i]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+
+  /** the entries, grouped by set . */
+  private final AtomicReferenceArray<Entry<T>> entries;
+
+  /** the hands of clock in each set, races are harmless . */
+  private final int[] hands;
+
+  /** the mask to compute the index of set . */
+  private final int mask;
+
+  /** the number of hits . */
+  private final LongAdder hits = new LongAdder();
+
+  /** the number of misses . */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * {@link ParseCache} .
+   *
+   * @param size the number of entries at least, rounds up to the power of two and multiple of {@link #ways}, up to {@link #maxSize}
+   */
+  ParseCache(final int size) {
+    final int sets = Math.max(1, Integer.highestOneBit(Math.max(1, (Math.min(size, maxSize) + ways - 1) / ways) - 1) << 1);
+    entries = new AtomicReferenceArray<>(sets * ways);
+    hands = new int[sets];
+    mask = sets - 1;
+  }
+
+  /**
+   * DRY : returns the hash code of the text, as the same as {@link String#hashCode()} but spreaded .
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param length the length of the text
+   * @return the hash code
+   */
+  private static int hash(final char[] chars, final int offset, final int length) {
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + chars[i];
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * returns the entry of the text .
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param length the length of the text
+   * @return the entry, or null if not cached
+   */
+  Entry<T> get(final char[] chars, final int offset, final int length) {
+    final int hash = hash(chars, offset, length);
+    final int base = (hash & mask) * ways;
+    for (int i = base; i < base + ways; i++) {
+      final Entry<T> entry = entries.get(i);
+      if (entry != null && entry.hash == hash && entry.matches(chars, offset, length)) {
+        if (!entry.referenced) {
+          entry.referenced = true;
+        }
+        hits.increment();
+
+        return entry;
+      }
+    }
+    misses.increment();
+
+    return null;
+  }
+
+  /**
+   * cache the parse result of the text .
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param length the length of the text
+   * @param value the parse result, may be null
+   */
+  void put(final char[] chars, final int offset, final int length, final T value) {
+    final int hash = hash(chars, offset, length);
+    final int set = hash & mask;
+    final int base = set * ways;
+    int hand = hands[set];
+    for (int i = 0; i <= ways; i++, hand = (hand + 1) % ways) {
+      final Entry<T> entry = entries.get(base + hand);
+      if (entry == null || !entry.referenced) {
+        break;
+      }
+      entry.referenced = false;
+    }
+    hands[set] = (hand + 1) % ways;
+    entries.set(base + hand, new Entry<>(new String(chars, offset, length), hash, value));
+  }
+
+  /**
+   * returns the number of entries which could cache .
+   *
+   * @return the number of entries
+   */
+  int capacity() {
+    return entries.length();
+  }
+
+  /**
+   * returns the number of hits .
+   *
+   * @return the number of hits
+   */
+  long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * returns the number of misses .
+   *
+   * @return the number of misses
+   */
+  long misses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import java.io.IOException;
+import java.text.DecimalFormatSymbols;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import jp.furplag.sandbox.stream.Streamr;
+import jp.furplag.sandbox.text.Commonizr;
+import jp.furplag.sandbox.trebuchet.Trebuchet;
+
+/**
+ * the numeric-field scanner which the lenient deserializers for java.time share .
+ * <p>
+ * scans the numerics in the text which separated by non-digit characters ( e.g. "2017/01/01 12:34" ) in a single pass,
+ * and resolves those as year, month, day, hour, minute, second and millisecond as the same as {@link ResolverStyle#LENIENT} .
+ * the text which not suitable for single pass scanning falls back to the regular expressions .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+final class TemporalScanner {
+
+  /** the marker which means that the text could not scan in a single pass, never be the result of scanning . */
+  static final LocalDateTime undetermined = LocalDateTime.MIN;
+
+  /** nanoseconds per second . */
+  private static final long nanosPerSecond = 1_000_000_000L;
+
+  /** nanoseconds per day . */
+  private static final long nanosPerDay = 86_400L * nanosPerSecond;
+
+  /** the locale which formats numbers using latin digits, or not . */
+  private static final Map<Locale, Boolean> latinDigits = new ConcurrentHashMap<>();
+
+  /** {@link DateTimeFormatter} for compact date, like "yyyyMMdd" . */
+  private static final DateTimeFormatter compactDate = lenient("yMMdd");
+
+  /** {@link DateTimeFormatter} for date . */
+  private static final DateTimeFormatter date = lenient("y-M-d");
+
+  /** {@link DateTimeFormatter} for date and hour . */
+  private static final DateTimeFormatter dateHour = lenient("y-M-d'T'H");
+
+  /** {@link DateTimeFormatter} for date, hour and minute . */
+  private static final DateTimeFormatter dateHourMinute = lenient("y-M-d'T'H:m");
+
+  /** {@link DateTimeFormatter} for date and time . */
+  private static final DateTimeFormatter dateTime = lenient("y-M-d'T'H:m:s");
+
+  /** {@link DateTimeFormatter} for date and time with milliseconds . */
+  private static final DateTimeFormatter dateTimeMillis = lenient("y-M-d'T'H:m:s.SSS");
+
+  /** container of {@link LocalDateTime} parser which includes {@link DateTimeFormatter} . */
+  private static final Map<Integer, Function<Long[], LocalDateTime>> parsers = Collections.unmodifiableMap(new HashMap<>() {{/* @formatter:off */
+    put(1, (args) -> LocalDate.parse(Objects.toString(args[0]), compactDate).atStartOfDay());
+    put(3, (args) -> LocalDate.parse(String.format("%04d-%02d-%02d", (Object[]) args), date).atStartOfDay());
+    put(4, (args) -> LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d", (Object[]) args), dateHour));
+    put(5, (args) -> LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d:%02d", (Object[]) args), dateHourMinute));
+    put(6, (args) -> LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d:%02d:%02d", (Object[]) args), dateTime));
+    put(7, (args) -> {
+      args[args.length - 2] += (args[args.length - 1] / 1000);
+      args[args.length - 1] %= 1000;
+      return LocalDateTime.parse(String.format("%04d-%02d-%02dT%02d:%02d:%02d.%03d", (Object[]) args), dateTimeMillis);
+    });
+  }});
+
+  /** intermediates for deserializing {@link String} to {@link LocalDateTime} . */
+  private static final Function<String, String[]> optimizr = Trebuchet.Functions.Uni.of(Commonizr::optimize)
+    .andThen((t) -> t.replaceAll("[\\D]*[\\D&&[^\\-]]", "."))
+    .andThen((t) -> t.replaceAll("(^\\.)|(\\.$)", ""))
+    .andThen((t) -> t.replaceAll("(\\d)\\D+(\\d)", "$1.$2"))
+    .andThen((t) -> t.split("\\.+", 8));
+
+  /** deserialize to {@link LocalDateTime} using the one of {@link #parsers} which seems to fit . */
+  private static final Function<String, LocalDateTime> deserializr = (t) -> Trebuchet.Functions.orNot(argumentify(t), (x) -> parsers.get(x.length).apply(x));
+
+  /** no instance . */
+  private TemporalScanner() {}
+
+  /**
+   * DRY : returns the lenient {@link DateTimeFormatter} .
+   *
+   * @param pattern the pattern
+   * @return {@link DateTimeFormatter}
+   */
+  private static DateTimeFormatter lenient(final String pattern) {
+    return DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.LENIENT);
+  }
+
+  /**
+   * intermediates for deserializing {@link String} to {@link LocalDateTime} .
+   *
+   * @param text the text which possibly parsable to {@link LocalDateTime}
+   * @return the array of numerics
+   */
+  private static final Long[] argumentify(final String text) {
+    return Streamr.stream(optimizr.apply(text)).map(Long::valueOf).mapToLong(Long::longValue).boxed().toArray(Long[]::new);
+  }
+
+  /**
+   * deserialize to {@link LocalDateTime} leniently, using regular expressions .
+   *
+   * @param text the text which possibly parsable to {@link LocalDateTime}
+   * @return {@link LocalDateTime}, or null if the text could not parse
+   */
+  static LocalDateTime leniently(final String text) {
+    return Trebuchet.Functions.orNot(text, deserializr::apply);
+  }
+
+  /**
+   * deserialize to {@link LocalDateTime} leniently, scanning the text in a single pass if possible .
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param length the length of the text
+   * @return {@link LocalDateTime}, or null if the text could not parse
+   */
+  static LocalDateTime leniently(final char[] chars, final int offset, final int length) {
+    final LocalDateTime scanned = chars == null ? undetermined : scan(chars, offset, length);
+
+    return scanned != undetermined ? scanned : leniently(chars == null ? null : new String(chars, offset, length));
+  }
+
+  /**
+   * scan the text in a single pass, returns the same result as {@link #leniently(String)} .
+   * <p>
+   * the numerics in the text are separated by non-digit characters ( e.g. "2017/01/01 12:34" ), and the text which is not suitable for single pass scanning,
+   * like as starts ( or ends ) with non-digit character, includes whitespaces or non-ASCII characters, or has signed numerics, returns {@link #undetermined} .
+   * note that the separator which hyphens only is not always separates numerics, as the same as {@link #optimizr} does .
+   * </p>
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param length the length of the text
+   * @return {@link LocalDateTime}, null if the text could not parse, or {@link #undetermined}
+   */
+  static LocalDateTime scan(final char[] chars, final int offset, final int length) {
+    final int end = offset + length;
+    if (length < 1 || !isDigit(chars[offset]) || !isDigit(chars[end - 1]) || !isLatinDigits()) {
+      return undetermined;
+    }
+    long year = 0, month = 0, day = 0, hour = 0, minute = 0, second = 0, millis = 0;
+    int count = 0;
+    boolean separated = false;
+    for (int i = offset; i < end;) {
+      final int start = i;
+      long value = 0;
+      for (; i < end && isDigit(chars[i]); i++) {
+        value = value * 10 + (chars[i] - '0');
+      }
+      final int digits = i - start;
+      if (digits > 18) {
+        return undetermined;
+      }
+      switch (count++) {/* @formatter:off */
+        case 0: year = value; break;
+        case 1: month = value; break;
+        case 2: day = value; break;
+        case 3: hour = value; break;
+        case 4: minute = value; break;
+        case 5: second = value; break;
+        case 6: millis = value; break;
+        default: return null;
+      /* @formatter:on */}
+      if (i >= end) {
+        break;
+      }
+      boolean hyphensOnly = true;
+      int hyphens = 0;
+      for (; i < end && !isDigit(chars[i]); i++) {
+        final char c = chars[i];
+        if (c < ' ' || c > '~' || (c == ' ' && chars[i - 1] == ' ')) {
+          return undetermined;
+        }
+        hyphens = c == '-' ? hyphens + 1 : 0;
+        hyphensOnly &= c == '-';
+      }
+      // the single digit which matched as the end of previous separator, never matches as the start of this one .
+      separated = digits > 1 || !separated;
+      if (!separated && hyphensOnly) {
+        return null;
+      } else if (!separated && hyphens > 0) {
+        return undetermined;
+      }
+    }
+
+    return count == 1 ? (year < 10_000 ? null : resolve(year / 10_000, year / 100 % 100, year % 100, 0, 0, 0, 0)) : count < 3 ? null : resolve(year, month, day, hour, minute, second + millis / 1000, millis % 1000 * 1_000_000);
+  }
+
+  /**
+   * resolve date and time as the same as {@link ResolverStyle#LENIENT} .
+   *
+   * @return {@link LocalDateTime}, or null if out of range
+   */
+  private static LocalDateTime resolve(final long year, final long month, final long day, final long hour, final long minute, final long second, final long nano) {
+    try {
+      final long nanos = Math.addExact(Math.addExact(Math.addExact(Math.multiplyExact(hour, 3_600L * nanosPerSecond), Math.multiplyExact(minute, 60L * nanosPerSecond)), Math.multiplyExact(second, nanosPerSecond)), nano);
+      final LocalDate date = LocalDate.of(ChronoField.YEAR.checkValidIntValue(year), 1, 1).plusMonths(Math.subtractExact(month, 1)).plusDays(Math.subtractExact(day, 1));
+
+      return LocalDateTime.of(date.plusDays(Math.floorDiv(nanos, nanosPerDay)), LocalTime.ofNanoOfDay(Math.floorMod(nanos, nanosPerDay)));
+    } catch (DateTimeException | ArithmeticException e) {
+      return null;
+    }
+  }
+
+  /**
+   * DRY : test if the character is an ASCII digit .
+   *
+   * @param c the character
+   * @return true if the character is an ASCII digit
+   */
+  static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * test if {@link String#format(String, Object...)} formats numbers using latin digits in the default locale, as {@link #parsers} expects .
+   *
+   * @return true if the default locale formats numbers using latin digits
+   */
+  private static boolean isLatinDigits() {
+    return latinDigits.computeIfAbsent(Locale.getDefault(Locale.Category.FORMAT), (locale) -> DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0');
+  }
+
+  /**
+   * test if the text never be parsable using ISO-8601 format, so that the deserialization could be done leniently without trying .
+   *
+   * @param parser {@link JsonParser}
+   * @param context {@link DeserializationContext}
+   * @param required the characters which ISO-8601 format requires at least one of them
+   * @return true if the text never be parsable using ISO-8601 format
+   * @throws IOException if error occurs
+   */
+  static boolean isNotISO(final JsonParser parser, final DeserializationContext context, final String required) throws IOException {
+    if (!parser.hasToken(JsonToken.VALUE_STRING) || context.getConfig().getProblemHandlers() != null) {
+      return false;
+    }
+    final char[] chars = parser.getTextCharacters();
+    final int end = parser.getTextOffset() + parser.getTextLength();
+    for (int i = parser.getTextOffset(); i < end; i++) {
+      if (required.indexOf(chars[i]) > -1) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * test if the text could be a number, like as epoch seconds .
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param length the length of the text
+   * @return true if the text consists of digits, periods and hyphens only, except surrounding whitespaces
+   */
+  static boolean isNumeric(final char[] chars, final int offset, final int length) {
+    for (int i = offset; i < offset + length; i++) {
+      if (!isDigit(chars[i]) && chars[i] != '.' && chars[i] != '-' && chars[i] > ' ') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * returns the position of zone designator at the end of the text, like as "Z", "+09:00", "-0500" and "[Asia/Tokyo]" .
+   * <p>
+   * the offset which starts with hyphen needs to be "HH:MM", "HHMM" or after space, so that never confused with the separator of numerics .
+   * and the offset needs the date and the hour before that .
+   * </p>
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param length the length of the text
+   * @return the position of zone designator, or the end of the text if not found
+   */
+  static int zoneStart(final char[] chars, final int offset, final int length) {
+    final int end = offset + length;
+    int i = end;
+    if (i > offset && chars[i - 1] == ']') {
+      do {
+        i--;
+      } while (i > offset && chars[i] != '[');
+      if (chars[i] != '[') {
+        return end;
+      }
+    }
+    if (i > offset + 1 && (chars[i - 1] == 'Z' || chars[i - 1] == 'z') && (isDigit(chars[i - 2]) || chars[i - 2] == ' ')) {
+      return i - 1;
+    }
+    int sign = i;
+    while (sign > offset && i - sign < 5 && (isDigit(chars[sign - 1]) || chars[sign - 1] == ':')) {
+      sign--;
+    }
+    if (--sign <= offset || (chars[sign] != '+' && chars[sign] != '-') || !isOffset(chars, sign + 1, i)) {
+      return i;
+    } else if (chars[sign] == '-' && i - sign < 5 && chars[sign - 1] != ' ') {
+      return i;
+    }
+
+    return groups(chars, offset, sign) < 4 ? i : sign;
+  }
+
+  /**
+   * returns the end of the local date-time, which excludes the zone designator and the spaces before that .
+   *
+   * @param chars the buffer which contains the text
+   * @param offset the offset of the text in the buffer
+   * @param zoneStart the position of zone designator
+   * @return the end of the local date-time
+   */
+  static int localEnd(final char[] chars, final int offset, final int zoneStart) {
+    int end = zoneStart;
+    while (end > offset && chars[end - 1] == ' ') {
+      end--;
+    }
+
+    return end;
+  }
+
+  /**
+   * returns the zone which designated at the end of the text .
+   *
+   * @param chars the buffer which contains the text
+   * @param start the position of zone designator
+   * @param end the end of the text
+   * @return {@link ZoneId}, or null if not designated
+   * @throws DateTimeException if the zone is invalid
+   */
+  static ZoneId zone(final char[] chars, final int start, final int end) {
+    if (start >= end) {
+      return null;
+    } else if (chars[end - 1] == ']') {
+      int i = end - 1;
+      while (chars[i] != '[') {
+        i--;
+      }
+
+      return ZoneId.of(new String(chars, i + 1, end - i - 2));
+    } else if (chars[start] == 'Z' || chars[start] == 'z') {
+      return ZoneOffset.UTC;
+    }
+    final int hours = end - start - 1 < 3 ? number(chars, start + 1, end) : number(chars, start + 1, start + 3);
+    final int minutes = end - start - 1 < 3 ? 0 : number(chars, end - 2, end);
+
+    return chars[start] == '-' ? ZoneOffset.ofHoursMinutes(-hours, -minutes) : ZoneOffset.ofHoursMinutes(hours, minutes);
+  }
+
+  /**
+   * test if the text is an offset without sign, like as "H", "HH", "HHMM" and "HH:MM" .
+   *
+   * @param chars the buffer which contains the text
+   * @param start the start of the text
+   * @param end the end of the text
+   * @return true if the text is an offset
+   */
+  private static boolean isOffset(final char[] chars, final int start, final int end) {
+    switch (end - start) {/* @formatter:off */
+      case 1: case 2: case 4: return number(chars, start, end) > -1;
+      case 5: return chars[start + 2] == ':' && number(chars, start, start + 2) > -1 && number(chars, start + 3, end) > -1;
+      default: return false;
+    /* @formatter:on */}
+  }
+
+  /**
+   * DRY : returns the number which the digits represents .
+   *
+   * @param chars the buffer which contains the digits
+   * @param start the start of the digits
+   * @param end the end of the digits
+   * @return the number, or -1 if not digits
+   */
+  private static int number(final char[] chars, final int start, final int end) {
+    int number = 0;
+    for (int i = start; i < end; i++) {
+      if (!isDigit(chars[i])) {
+        return -1;
+      }
+      number = number * 10 + (chars[i] - '0');
+    }
+
+    return number;
+  }
+
+  /**
+   * DRY : returns the number of numerics in the text .
+   *
+   * @param chars the buffer which contains the text
+   * @param start the start of the text
+   * @param end the end of the text
+   * @return the number of numerics
+   */
+  private static int groups(final char[] chars, final int start, final int end) {
+    int groups = 0;
+    for (int i = start; i < end; i++) {
+      if (isDigit(chars[i]) && (i == start || !isDigit(chars[i - 1]))) {
+        groups++;
+      }
+    }
+
+    return groups;
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * the histogram of non-negative values, that the buckets are log-linear like as HdrHistogram .
+ * <p>
+ * each power of two splits into 16 buckets, so that the value which recorded is accurate to within 1/16 ( and exactly less than 32 ) .
+ * recording never allocates and never locks .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class Histogram {
+
+  /** the number of bits to split each power of two . */
+  private static final int subBucketBits = 4;
+
+  /** the number of buckets which covers up to {@link Long#MAX_VALUE} . */
+  private static final int buckets = index(Long.MAX_VALUE) + 1;
+
+  /** the counts of each bucket . */
+  private final AtomicLongArray counts = new AtomicLongArray(buckets);
+
+  /** the number of recorded values . */
+  private final LongAdder count = new LongAdder();
+
+  /** the sum of recorded values . */
+  private final LongAdder sum = new LongAdder();
+
+  /** the maximum of recorded values . */
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * returns the index of the bucket which the value belongs to .
+   *
+   * @param value the value, non-negative
+   * @return the index of bucket
+   */
+  static int index(final long value) {
+    final int shift = Math.max(0, 63 - subBucketBits - Long.numberOfLeadingZeros(value));
+
+    return (shift << subBucketBits) + (int) (value >>> shift);
+  }
+
+  /**
+   * returns the highest value which the bucket represents .
+   *
+   * @param index the index of bucket
+   * @return the highest value in the bucket
+   */
+  static long highest(final int index) {
+    final int shift = Math.max(0, (index >>> subBucketBits) - 1);
+    final long top = index - ((long) shift << subBucketBits);
+
+    return ((top + 1) << shift) - 1;
+  }
+
+  /**
+   * record the value, negative one records as zero .
+   *
+   * @param value the value
+   */
+  public void record(final long value) {
+    final long _value = Math.max(0, value);
+    counts.incrementAndGet(index(_value));
+    count.increment();
+    sum.add(_value);
+    max.accumulate(_value);
+  }
+
+  /**
+   * returns the number of recorded values .
+   *
+   * @return the number of recorded values
+   */
+  public long count() {
+    return count.sum();
+  }
+
+  /**
+   * returns the maximum of recorded values .
+   *
+   * @return the maximum, or zero if nothing recorded
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * returns the mean of recorded values .
+   *
+   * @return the mean, or zero if nothing recorded
+   */
+  public double mean() {
+    final long count = count();
+
+    return count < 1 ? 0 : (double) sum.sum() / count;
+  }
+
+  /**
+   * returns the value at the percentile, which is the highest value in the bucket and never exceeds the maximum .
+   *
+   * @param percentile the percentile, 0 to 100
+   * @return the value at the percentile, or zero if nothing recorded
+   */
+  public long percentile(final double percentile) {
+    long total = 0;
+    for (int i = 0; i < buckets; i++) {
+      total += counts.get(i);
+    }
+    final long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+    long cumulative = 0;
+    for (int i = 0; i < buckets && total > 0; i++) {
+      cumulative += counts.get(i);
+      if (cumulative >= rank) {
+        return Math.min(highest(i), max());
+      }
+    }
+
+    return 0;
+  }
+}
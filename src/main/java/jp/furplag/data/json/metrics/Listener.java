@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.metrics;
+
+/**
+ * receives the result of each serialization and deserialization, which {@link jp.furplag.data.json.Profile} calls .
+ * <p>
+ * the listener calls in the thread which serializes or deserializes, so that should be fast and never throws .
+ * {@link jp.furplag.data.json.Jsonifier} uses the first one which provided through {@link java.util.ServiceLoader}, and nothing calls if not provided .
+ * the one which provided returns from {@link jp.furplag.data.json.Jsonifier#listener()} .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public interface Listener {
+
+  /**
+   * the kind of call .
+   *
+   * @author furplag
+   *
+   */
+  enum Operation {
+
+    /** an object to JSON . */
+    SERIALIZE,
+
+    /** JSON to an object . */
+    DESERIALIZE;
+  }
+
+  /**
+   * the call has completed .
+   *
+   * @param operation {@link Operation}
+   * @param type the class of the object
+   * @param nanos elapsed time in nanoseconds
+   * @param size the size of JSON, in bytes or chars ( for {@link String} and {@link java.io.Reader} ), or -1 if unknown
+   */
+  void completed(Operation operation, Class<?> type, long nanos, long size);
+
+  /**
+   * the call has failed .
+   *
+   * @param operation {@link Operation}
+   * @param type the class of the object
+   * @param nanos elapsed time in nanoseconds
+   * @param error anything thrown
+   */
+  void failed(Operation operation, Class<?> type, long nanos, Throwable error);
+}
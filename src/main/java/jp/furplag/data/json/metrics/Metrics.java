@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * the in-memory {@link Listener}, which counts calls, size of JSON and failures, and records latency per operation and class .
+ * <p>
+ * counters are striped ( {@link LongAdder} ), so that calls in many threads never contend on the same one .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class Metrics implements Listener {
+
+  /** the statistics per operation and class . */
+  private final Map<Operation, Map<Class<?>, Stats>> stats = new EnumMap<>(Operation.class);
+
+  /**
+   * the statistics of calls for the class .
+   *
+   * @author furplag
+   *
+   */
+  public static final class Stats {
+
+    /** the number of calls . */
+    private final LongAdder calls = new LongAdder();
+
+    /** the total size of JSON, excepts unknown one . */
+    private final LongAdder size = new LongAdder();
+
+    /** the number of failures per the class of error . */
+    private final Map<Class<? extends Throwable>, LongAdder> failures = new ConcurrentHashMap<>();
+
+    /** the latency in nanoseconds, both completed and failed . */
+    private final Histogram latency = new Histogram();
+
+    /** {@link Stats} . */
+    private Stats() {}
+
+    /**
+     * returns the number of calls, both completed and failed .
+     *
+     * @return the number of calls
+     */
+    public long calls() {
+      return calls.sum();
+    }
+
+    /**
+     * returns the total size of JSON, in bytes or chars .
+     *
+     * @return the total size of JSON which size is known
+     */
+    public long size() {
+      return size.sum();
+    }
+
+    /**
+     * returns the number of failures .
+     *
+     * @return the number of failures
+     */
+    public long failures() {
+      return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * returns the number of failures per the class of error .
+     *
+     * @return the number of failures per the class of error
+     */
+    public Map<Class<? extends Throwable>, Long> failuresByError() {
+      final Map<Class<? extends Throwable>, Long> failuresByError = new ConcurrentHashMap<>();
+      failures.forEach((error, count) -> failuresByError.put(error, count.sum()));
+
+      return Collections.unmodifiableMap(failuresByError);
+    }
+
+    /**
+     * returns the latency in nanoseconds .
+     *
+     * @return {@link Histogram}
+     */
+    public Histogram latency() {
+      return latency;
+    }
+  }
+
+  /** {@link Metrics} . */
+  public Metrics() {
+    for (Operation operation : Operation.values()) {
+      stats.put(operation, new ConcurrentHashMap<>());
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void completed(final Operation operation, final Class<?> type, final long nanos, final long size) {
+    final Stats stats = stats(operation, type);
+    stats.calls.increment();
+    stats.latency.record(nanos);
+    if (size > 0) {
+      stats.size.add(size);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void failed(final Operation operation, final Class<?> type, final long nanos, final Throwable error) {
+    final Stats stats = stats(operation, type);
+    stats.calls.increment();
+    stats.latency.record(nanos);
+    final Class<? extends Throwable> errorType = error == null ? Throwable.class : error.getClass();
+    final LongAdder failures = stats.failures.get(errorType);
+    (failures == null ? stats.failures.computeIfAbsent(errorType, (_errorType) -> new LongAdder()) : failures).increment();
+  }
+
+  /**
+   * returns the statistics per class of the operation .
+   *
+   * @param operation {@link Operation}
+   * @return the statistics per class, which never modifiable
+   */
+  public Map<Class<?>, Stats> of(final Operation operation) {
+    return Collections.unmodifiableMap(stats.get(operation));
+  }
+
+  /**
+   * returns the statistics of the operation for the class .
+   *
+   * @param operation {@link Operation}
+   * @param type the class of the object
+   * @return {@link Stats}, or null if never called
+   */
+  public Stats of(final Operation operation, final Class<?> type) {
+    return operation == null || type == null ? null : stats.get(operation).get(type);
+  }
+
+  /**
+   * DRY : returns the statistics of the operation for the class, which creates if absent .
+   *
+   * @param operation {@link Operation}
+   * @param type the class of the object
+   * @return {@link Stats}
+   */
+  private Stats stats(final Operation operation, final Class<?> type) {
+    final Map<Class<?>, Stats> statsByType = stats.get(operation);
+    final Class<?> _type = type == null ? Object.class : type;
+    final Stats stats = statsByType.get(_type);
+
+    return stats == null ? statsByType.computeIfAbsent(_type, (__type) -> new Stats()) : stats;
+  }
+}
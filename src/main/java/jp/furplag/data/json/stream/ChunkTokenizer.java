@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * bind the values from the chunks of UTF-8 encoded JSON, using the non-blocking parser .
+ * <p>
+ * the tokens of the value which not completed yet are kept in {@link TokenBuffer}, and the value binds when its last token arrives .
+ * each chunk consumes all before feeding returns, so that the caller could reuse the chunk .
+ * the non-blocking parser accepts the trailing comma of an object, if the chunk ends after the comma,
+ * so that the separators at the end of chunks are tracked, and the close marker after those rejects unless the trailing comma allowed .
+ * </p>
+ *
+ * @author furplag
+ *
+ * @param <T> the type of value
+ */
+final class ChunkTokenizer<T> {
+
+  /** the non-blocking parser . */
+  private final JsonParser parser;
+
+  /** the feeder of the parser . */
+  private final ByteBufferFeeder feeder;
+
+  /** {@link ObjectReader} which the type of value already resolved . */
+  private final ObjectReader reader;
+
+  /** the tokens of the value which not completed yet, or null if no tokens . */
+  private TokenBuffer tokens;
+
+  /** the depth of the value . */
+  private int depth;
+
+  /** the token which read last . */
+  private JsonToken previous;
+
+  /** the parser allows trailing comma . */
+  private final boolean trailingComma;
+
+  /** the last chunk ends with a separator, after the last token . */
+  private boolean separated;
+
+  /**
+   * {@link ChunkTokenizer} .
+   *
+   * @param factory {@link JsonFactory} which creates the non-blocking parser, features of the factory ( e.g. comments ) work if the parser supports
+   * @param reader {@link ObjectReader} which the type of value already resolved
+   * @throws IOException if the parser could not create
+   */
+  ChunkTokenizer(final JsonFactory factory, final ObjectReader reader) throws IOException {
+    parser = factory.createNonBlockingByteBufferParser();
+    feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    this.reader = reader;
+    trailingComma = parser.isEnabled(JsonReadFeature.ALLOW_TRAILING_COMMA.mappedFeature());
+  }
+
+  /**
+   * feed the chunk, and then bind the values which completed .
+   *
+   * @param chunk the remaining bytes of UTF-8 encoded JSON
+   * @param values the consumer of values
+   * @throws IOException if the content is not a valid JSON, or the value could not bind
+   */
+  void feed(final ByteBuffer chunk, final Consumer<? super T> values) throws IOException {
+    if (chunk != null && chunk.hasRemaining()) {
+      final int last = last(chunk);
+      feeder.feedInput(chunk);
+      bind(values);
+      separated = last < 0 ? separated : last == ',';
+    }
+  }
+
+  /**
+   * the end of content, and then bind the value which completed .
+   *
+   * @param values the consumer of values
+   * @throws IOException if the content ends in the middle of the value
+   */
+  void end(final Consumer<? super T> values) throws IOException {
+    feeder.endOfInput();
+    bind(values);
+    parser.close();
+  }
+
+  /**
+   * DRY : bind the values from the tokens which available .
+   *
+   * @param values the consumer of values
+   * @throws IOException if the content is not a valid JSON, or the value could not bind
+   */
+  private void bind(final Consumer<? super T> values) throws IOException {
+    for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.NOT_AVAILABLE; token = parser.nextToken()) {
+      if (JsonToken.FIELD_NAME.equals(previous) && JsonToken.END_OBJECT.equals(token)) {
+        // the non-blocking parser accepts the field which has no value .
+        throw new JsonParseException(parser, "Unexpected end-of-object: expected a value of the field");
+      } else if (separated && !trailingComma && token.isStructEnd()) {
+        throw new JsonParseException(parser, String.format("Unexpected close marker '%s': expected a value after the comma", token.asString()));
+      }
+      previous = token;
+      separated = false;
+      if (tokens == null) {
+        tokens = new TokenBuffer(parser);
+      }
+      tokens.copyCurrentEvent(parser);
+      depth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+      if (depth < 1) {
+        try (JsonParser buffered = tokens.asParser(parser)) {
+          tokens = null;
+          values.accept(reader.readValue(buffered));
+        }
+      }
+    }
+  }
+
+  /**
+   * DRY : returns the last byte of the chunk which is not a whitespace .
+   *
+   * @param chunk the remaining bytes of UTF-8 encoded JSON
+   * @return the last byte, or -1 if the chunk is blank
+   */
+  private static int last(final ByteBuffer chunk) {
+    for (int i = chunk.limit() - 1; i >= chunk.position(); i--) {
+      final byte b = chunk.get(i);
+      if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+        return b;
+      }
+    }
+
+    return -1;
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * {@link Flow.Publisher} of the values which deserialize from {@link Flow.Publisher} of chunks of UTF-8 encoded JSON .
+ * <p>
+ * the content is the sequence of values which separated by whitespace ( e.g. JSON Lines ), and each subscriber subscribes to the chunks .
+ * the chunk requests one by one only when the subscriber demands and the values already bound are all emitted,
+ * so that the values which waiting for the demand never exceed the values in a chunk .
+ * </p>
+ *
+ * @author furplag
+ *
+ * @param <T> the type of value
+ */
+final class ChunkedPublisher<T> implements Flow.Publisher<T> {
+
+  /** the chunks . */
+  private final Flow.Publisher<ByteBuffer> content;
+
+  /** {@link JsonFactory} which creates the non-blocking parser . */
+  private final JsonFactory factory;
+
+  /** {@link ObjectReader} which the type of value already resolved . */
+  private final ObjectReader reader;
+
+  /**
+   * {@link ChunkedPublisher} .
+   *
+   * @param content the chunks
+   * @param factory {@link JsonFactory} which creates the non-blocking parser
+   * @param reader {@link ObjectReader} which the type of value already resolved
+   */
+  ChunkedPublisher(final Flow.Publisher<ByteBuffer> content, final JsonFactory factory, final ObjectReader reader) {
+    this.content = content;
+    this.factory = factory;
+    this.reader = reader;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+    final Bridge<T> bridge = new Bridge<>(subscriber);
+    try {
+      bridge.tokenizer = new ChunkTokenizer<>(factory, reader);
+    } catch (IOException e) {
+      subscriber.onSubscribe(bridge);
+      bridge.fail(e);
+
+      return;
+    }
+    content.subscribe(bridge);
+  }
+
+  /**
+   * the subscriber of chunks, and the subscription of values .
+   *
+   * @param <T> the type of value
+   */
+  private static final class Bridge<T> implements Flow.Subscriber<ByteBuffer>, Flow.Subscription {
+
+    /** the subscriber of values . */
+    private final Flow.Subscriber<? super T> subscriber;
+
+    /** the values which waiting for the demand . */
+    private final Queue<T> values = new ConcurrentLinkedQueue<>();
+
+    /** the demand of the subscriber . */
+    private final AtomicLong demand = new AtomicLong();
+
+    /** the number of drains which missed, for serializing the signals to the subscriber . */
+    private final AtomicInteger missed = new AtomicInteger();
+
+    /** the tokenizer . */
+    private ChunkTokenizer<T> tokenizer;
+
+    /** the subscription of chunks . */
+    private volatile Flow.Subscription subscription;
+
+    /** a chunk requested and not arrived yet . */
+    private volatile boolean requested;
+
+    /** no more chunks . */
+    private volatile boolean upstreamDone;
+
+    /** the error, which signals after the values already bound . */
+    private volatile Throwable error;
+
+    /** the subscriber cancelled . */
+    private volatile boolean cancelled;
+
+    /** the subscriber already terminated . */
+    private boolean done;
+
+    /**
+     * {@link Bridge} .
+     *
+     * @param subscriber the subscriber of values
+     */
+    private Bridge(final Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      if (this.subscription != null) {
+        subscription.cancel();
+
+        return;
+      }
+      this.subscription = subscription;
+      subscriber.onSubscribe(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onNext(final ByteBuffer chunk) {
+      requested = false;
+      if (!upstreamDone) {
+        try {
+          tokenizer.feed(chunk, values::add);
+        } catch (IOException | RuntimeException e) {
+          subscription.cancel();
+          fail(e);
+
+          return;
+        }
+      }
+      drain();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onError(final Throwable error) {
+      fail(error);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onComplete() {
+      if (!upstreamDone) {
+        try {
+          tokenizer.end(values::add);
+        } catch (IOException | RuntimeException e) {
+          fail(e);
+
+          return;
+        }
+        upstreamDone = true;
+      }
+      drain();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(final long n) {
+      if (n < 1) {
+        final Flow.Subscription subscription = this.subscription;
+        if (subscription != null) {
+          subscription.cancel();
+        }
+        values.clear();
+        fail(new IllegalArgumentException("the number of request must be positive ."));
+
+        return;
+      }
+      demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+      drain();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void cancel() {
+      cancelled = true;
+      final Flow.Subscription subscription = this.subscription;
+      if (subscription != null) {
+        subscription.cancel();
+      }
+      drain();
+    }
+
+    /**
+     * DRY : terminate with the error after the values already bound .
+     *
+     * @param error anything thrown
+     */
+    private void fail(final Throwable error) {
+      if (!upstreamDone) {
+        this.error = error;
+        upstreamDone = true;
+      }
+      drain();
+    }
+
+    /**
+     * emit the values as many as demanded, and then request a chunk if more values demanded, in one thread at a time .
+     */
+    private void drain() {
+      if (missed.getAndIncrement() != 0) {
+        return;
+      }
+      int missing = 1;
+      do {
+        while (!cancelled && demand.get() > 0 && !values.isEmpty()) {
+          demand.decrementAndGet();
+          subscriber.onNext(values.poll());
+        }
+        if (cancelled) {
+          values.clear();
+        } else if (values.isEmpty() && upstreamDone && !done) {
+          done = true;
+          if (error == null) {
+            subscriber.onComplete();
+          } else {
+            subscriber.onError(error);
+          }
+        } else if (values.isEmpty() && !upstreamDone && demand.get() > 0 && !requested && subscription != null) {
+          requested = true;
+          subscription.request(1);
+        }
+        missing = missed.addAndGet(-missing);
+      } while (missing != 0);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * deserialize the value from the chunks of UTF-8 encoded JSON as they arrive, and complete {@link #result()} without blocking .
+ * <p>
+ * feed the chunks through {@link #feed(ByteBuffer)} and {@link #end()}, or subscribe to {@link Flow.Publisher} of chunks .
+ * the result completes with the first value, and then the rest of chunks are ignored ( or the subscription cancels ) .
+ * the result completes with null if the content is empty, or completes exceptionally if error occurs .
+ * </p>
+ *
+ * @author furplag
+ *
+ * @param <T> the type of value
+ */
+public final class ChunkedReader<T> implements Flow.Subscriber<ByteBuffer> {
+
+  /** the result . */
+  private final CompletableFuture<T> result = new CompletableFuture<>();
+
+  /** the tokenizer, or null if the type of value not resolved . */
+  private final ChunkTokenizer<T> tokenizer;
+
+  /** the subscription of chunks . */
+  private Flow.Subscription subscription;
+
+  /**
+   * {@link ChunkedReader} .
+   *
+   * @param factory {@link JsonFactory} which creates the non-blocking parser
+   * @param reader {@link ObjectReader} which the type of value already resolved, the result completes with null if null
+   */
+  ChunkedReader(final JsonFactory factory, final ObjectReader reader) {
+    ChunkTokenizer<T> tokenizer = null;
+    try {
+      tokenizer = reader == null ? null : new ChunkTokenizer<>(factory, reader);
+    } catch (IOException e) {
+      result.completeExceptionally(e);
+    }
+    this.tokenizer = tokenizer;
+    if (tokenizer == null) {
+      result.complete(null);
+    }
+  }
+
+  /**
+   * returns the result, which completes with the first value .
+   *
+   * @return {@link CompletableFuture}
+   */
+  public CompletableFuture<T> result() {
+    return result;
+  }
+
+  /**
+   * feed the chunk, the chunk could reuse after this returns .
+   *
+   * @param chunk the remaining bytes of UTF-8 encoded JSON
+   * @return true if the result not completed yet, and needs more chunks
+   */
+  public boolean feed(final ByteBuffer chunk) {
+    if (!result.isDone()) {
+      try {
+        tokenizer.feed(chunk, this::complete);
+      } catch (IOException | RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    }
+
+    return !result.isDone();
+  }
+
+  /**
+   * the end of content, the result completes with null if no value .
+   */
+  public void end() {
+    if (!result.isDone()) {
+      try {
+        tokenizer.end(this::complete);
+      } catch (IOException | RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+      result.complete(null);
+    }
+  }
+
+  /**
+   * DRY : complete the result with the first value .
+   *
+   * @param value the value
+   */
+  private void complete(final T value) {
+    result.complete(value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    if (this.subscription != null || result.isDone()) {
+      subscription.cancel();
+    } else {
+      this.subscription = subscription;
+      subscription.request(1);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onNext(final ByteBuffer chunk) {
+    if (feed(chunk)) {
+      subscription.request(1);
+    } else {
+      subscription.cancel();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onError(final Throwable error) {
+    result.completeExceptionally(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onComplete() {
+    end();
+  }
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * {@link Flow.Processor} which serializes the objects into the chunks of UTF-8 encoded JSON Lines, or of one JSON array .
+ * <p>
+ * the object requests one by one only when the subscriber demands and the chunks already filled are all emitted,
+ * so that the chunks which waiting for the demand never exceed the chunks of one object .
+ * the chunk emits when it filled up, when the flush interval elapsed since the first byte written into it, or when the objects end .
+ * the chunks are heap buffers ready to read, which the subscriber may give back using {@link #recycle(ByteBuffer)} to reuse .
+ * </p>
+ * <p>
+ * null turns into "null", and the chunks not emitted yet discard if error occurs, because the output is no longer a valid JSON .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class ChunkedWriter implements Flow.Processor<Object, ByteBuffer> {
+
+  /** the number of chunks which keep to reuse . */
+  private static final int poolSize = 4;
+
+  /** {@link ObjectMapper} which creates the generator . */
+  private final ObjectMapper mapper;
+
+  /** returns {@link ObjectWriter} for the object . */
+  private final Function<Object, ObjectWriter> writers;
+
+  /** frame the objects as one JSON array . */
+  private final boolean array;
+
+  /** the capacity of chunk . */
+  private final int chunkSize;
+
+  /** the flush interval in nanoseconds, never flush by time if not positive . */
+  private final long flushInterval;
+
+  /** the chunks which keep to reuse . */
+  private final Queue<ByteBuffer> pool = new ArrayBlockingQueue<>(poolSize);
+
+  /** the chunks which waiting for the demand . */
+  private final Queue<ByteBuffer> chunks = new ConcurrentLinkedQueue<>();
+
+  /** the demand of the subscriber . */
+  private final AtomicLong demand = new AtomicLong();
+
+  /** the number of drains which missed, for serializing the signals to the subscriber . */
+  private final AtomicInteger missed = new AtomicInteger();
+
+  /** the subscriber already subscribed . */
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+
+  /** the destination of the generator, which guards the chunk in writing . */
+  private final Output output = new Output();
+
+  /** the subscriber of chunks . */
+  private volatile Flow.Subscriber<? super ByteBuffer> subscriber;
+
+  /** the subscription of objects . */
+  private volatile Flow.Subscription subscription;
+
+  /** an object requested and not arrived yet . */
+  private volatile boolean requested;
+
+  /** no more objects . */
+  private volatile boolean upstreamDone;
+
+  /** the error, which signals instead of the chunks not emitted yet . */
+  private volatile Throwable error;
+
+  /** the subscriber cancelled . */
+  private volatile boolean cancelled;
+
+  /** the subscriber already terminated . */
+  private boolean done;
+
+  /**
+   * {@link ChunkedWriter} .
+   *
+   * @param mapper {@link ObjectMapper} which creates the generator
+   * @param writers returns {@link ObjectWriter} for the object
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @param chunkSize the capacity of chunk in bytes
+   * @param flushInterval the interval to emit the chunk which not filled up, never flush by time if null, zero or negative
+   */
+  ChunkedWriter(final ObjectMapper mapper, final Function<Object, ObjectWriter> writers, final Framing framing, final int chunkSize, final Duration flushInterval) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("the size of chunk must be positive .");
+    }
+    this.mapper = mapper;
+    this.writers = writers;
+    this.array = !Framing.LINES.equals(framing);
+    this.chunkSize = chunkSize;
+    this.flushInterval = flushInterval == null || flushInterval.isNegative() ? 0 : flushInterval.toNanos();
+  }
+
+  /**
+   * give back the chunk which already consumed, to reuse .
+   * <p>
+   * the chunk should never be used after recycled, and the chunk which not emitted from this processor is ignored .
+   * </p>
+   *
+   * @param chunk the chunk which this processor emitted
+   */
+  public void recycle(final ByteBuffer chunk) {
+    if (chunk != null && chunk.capacity() == chunkSize && chunk.hasArray() && !chunk.isDirect()) {
+      pool.offer(chunk.clear());
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(final long n) {/* nothing to emit . */}
+
+        @Override
+        public void cancel() {/* nothing to cancel . */}
+      });
+      subscriber.onError(new IllegalStateException("the chunks emit only to one subscriber ."));
+
+      return;
+    }
+    subscriber.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(final long n) {
+        ChunkedWriter.this.request(n);
+      }
+
+      @Override
+      public void cancel() {
+        ChunkedWriter.this.cancel();
+      }
+    });
+    this.subscriber = subscriber;
+    drain();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    if (this.subscription != null) {
+      subscription.cancel();
+
+      return;
+    }
+    this.subscription = subscription;
+    if (cancelled) {
+      subscription.cancel();
+    }
+    drain();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onNext(final Object item) {
+    requested = false;
+    if (!upstreamDone) {
+      try {
+        synchronized (output) {
+          output.value(item);
+        }
+      } catch (IOException | RuntimeException e) {
+        subscription.cancel();
+        fail(e);
+
+        return;
+      }
+    }
+    drain();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onError(final Throwable error) {
+    fail(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onComplete() {
+    if (!upstreamDone) {
+      try {
+        synchronized (output) {
+          output.end();
+        }
+      } catch (IOException | RuntimeException e) {
+        fail(e);
+
+        return;
+      }
+      upstreamDone = true;
+    }
+    drain();
+  }
+
+  /**
+   * DRY : the subscriber demands more chunks .
+   *
+   * @param n the number of chunks
+   */
+  private void request(final long n) {
+    if (n < 1) {
+      final Flow.Subscription subscription = this.subscription;
+      if (subscription != null) {
+        subscription.cancel();
+      }
+      fail(new IllegalArgumentException("the number of request must be positive ."));
+
+      return;
+    }
+    demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+    drain();
+  }
+
+  /**
+   * DRY : the subscriber cancelled .
+   */
+  private void cancel() {
+    cancelled = true;
+    final Flow.Subscription subscription = this.subscription;
+    if (subscription != null) {
+      subscription.cancel();
+    }
+    fail(null);
+  }
+
+  /**
+   * DRY : terminate with the error, and discard the chunks not emitted yet .
+   *
+   * @param error anything thrown, or null if cancelled
+   */
+  private void fail(final Throwable error) {
+    if (!upstreamDone) {
+      this.error = error;
+      upstreamDone = true;
+      synchronized (output) {
+        output.discard();
+      }
+    }
+    drain();
+  }
+
+  /**
+   * DRY : emit the chunk which not filled up, if the chunk is still in writing .
+   *
+   * @param generation the generation of the chunk
+   */
+  private void expire(final long generation) {
+    synchronized (output) {
+      if (upstreamDone || output.generation != generation) {
+        return;
+      }
+      output.push();
+    }
+    drain();
+  }
+
+  /**
+   * emit the chunks as many as demanded, and then request an object if more chunks demanded, in one thread at a time .
+   */
+  private void drain() {
+    if (missed.getAndIncrement() != 0) {
+      return;
+    }
+    int missing = 1;
+    do {
+      final Flow.Subscriber<? super ByteBuffer> subscriber = this.subscriber;
+      if (cancelled) {
+        for (ByteBuffer chunk = chunks.poll(); chunk != null; chunk = chunks.poll()) {
+          recycle(chunk);
+        }
+      } else if (subscriber != null) {
+        while (!cancelled && demand.get() > 0 && !chunks.isEmpty()) {
+          demand.decrementAndGet();
+          subscriber.onNext(chunks.poll());
+        }
+        if (!cancelled && chunks.isEmpty() && upstreamDone && !done) {
+          done = true;
+          if (error == null) {
+            subscriber.onComplete();
+          } else {
+            subscriber.onError(error);
+          }
+        } else if (chunks.isEmpty() && !upstreamDone && demand.get() > 0 && !requested && subscription != null) {
+          requested = true;
+          subscription.request(1);
+        }
+      }
+      missing = missed.addAndGet(-missing);
+    } while (missing != 0);
+  }
+
+  /**
+   * the destination of the generator, which fills the chunks .
+   */
+  private final class Output extends OutputStream {
+
+    /** the chunk in writing . */
+    private ByteBuffer current;
+
+    /** the generator, which created lazily . */
+    private JsonGenerator generator;
+
+    /** the generation of the chunk in writing, for the flush by time . */
+    private long generation;
+
+    /**
+     * write the object followed by the separator, and then the chunk filled up emits .
+     *
+     * @param item an object
+     * @throws IOException if error occured
+     */
+    private void value(final Object item) throws IOException {
+      final JsonGenerator generator = generator();
+      if (item == null) {
+        generator.writeNull();
+      } else {
+        writers.apply(item).writeValue(generator, item);
+      }
+      if (!array) {
+        generator.writeRaw('\n');
+      }
+      generator.flush();
+      if (current != null && !current.hasRemaining()) {
+        push();
+      }
+    }
+
+    /**
+     * close the array if framed, and then the chunk in writing emits .
+     *
+     * @throws IOException if error occured
+     */
+    private void end() throws IOException {
+      final JsonGenerator generator = generator();
+      if (array) {
+        generator.writeEndArray();
+      }
+      generator.close();
+      push();
+    }
+
+    /**
+     * DRY : returns the generator, which starts the array if framed .
+     *
+     * @return {@link JsonGenerator}
+     * @throws IOException if error occured
+     */
+    private JsonGenerator generator() throws IOException {
+      if (generator == null) {
+        generator = mapper.createGenerator(this);
+        generator.setRootValueSeparator(null);
+        if (array) {
+          generator.writeStartArray();
+        }
+      }
+
+      return generator;
+    }
+
+    /**
+     * the chunk in writing emits, if any bytes written .
+     */
+    private void push() {
+      if (current != null && current.position() > 0) {
+        chunks.add(current.flip());
+        current = null;
+        generation++;
+      }
+    }
+
+    /**
+     * discard the chunks not emitted yet .
+     */
+    private void discard() {
+      if (generator != null && !generator.isClosed()) {
+        try {
+          generator.close();
+        } catch (IOException | RuntimeException e) {
+          // the output already discards .
+        }
+      }
+      if (current != null) {
+        recycle(current);
+        current = null;
+      }
+      generation++;
+      for (ByteBuffer chunk = chunks.poll(); chunk != null; chunk = chunks.poll()) {
+        recycle(chunk);
+      }
+    }
+
+    /**
+     * DRY : returns the chunk which has room, and the flush by time starts when a chunk starts writing .
+     *
+     * @return the chunk in writing
+     */
+    private ByteBuffer chunk() {
+      if (current != null && !current.hasRemaining()) {
+        push();
+      }
+      if (current == null) {
+        final ByteBuffer chunk = pool.poll();
+        current = chunk == null ? ByteBuffer.allocate(chunkSize) : chunk;
+        if (flushInterval > 0) {
+          final long _generation = generation;
+          CompletableFuture.delayedExecutor(flushInterval, TimeUnit.NANOSECONDS).execute(() -> expire(_generation));
+        }
+      }
+
+      return current;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) {
+      chunk().put((byte) b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      for (int offset = off, remaining = len; remaining > 0;) {
+        final ByteBuffer chunk = chunk();
+        final int length = Math.min(remaining, chunk.remaining());
+        chunk.put(b, offset, length);
+        offset += length;
+        remaining -= length;
+      }
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * {@link Spliterator} of the elements of JSON array which bind each element from the streaming parser .
+ *
+ * @author furplag
+ *
+ * @param <T> the type of element
+ */
+final class ElementSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+  /** {@link JsonParser} . */
+  private final JsonParser parser;
+
+  /** {@link JsonPointer} of the array . */
+  private final JsonPointer pointer;
+
+  /** {@link ObjectReader} which the type of element already resolved . */
+  private final ObjectReader reader;
+
+  /** how to handle the element which failed to deserialize . */
+  private final OnFailure onFailure;
+
+  /** the context of the array, or null if not seeked yet . */
+  private JsonStreamContext array;
+
+  /** true if there are no more elements . */
+  private boolean done;
+
+  /**
+   * {@link ElementSpliterator} .
+   *
+   * @param parser {@link JsonParser}
+   * @param pointer {@link JsonPointer} of the array
+   * @param reader {@link ObjectReader} which the type of element already resolved
+   * @param onFailure how to handle the element which failed to deserialize
+   */
+  ElementSpliterator(final JsonParser parser, final JsonPointer pointer, final ObjectReader reader, final OnFailure onFailure) {
+    super(Long.MAX_VALUE, Spliterator.ORDERED);
+    this.parser = parser;
+    this.pointer = pointer;
+    this.reader = reader;
+    this.onFailure = onFailure == null ? OnFailure.NULL : onFailure;
+  }
+
+  /**
+   * move the parser to the array .
+   *
+   * @return true if the parser stays on the array
+   * @throws IOException if the content is not a valid JSON, or a low-level I/O problem occurs
+   */
+  private boolean seek() throws IOException {
+    if (!JsonPointers.seek(parser, pointer) || !JsonToken.START_ARRAY.equals(parser.currentToken())) {
+      if (OnFailure.THROW.equals(onFailure)) {
+        throw new JsonParseException(parser, String.format("no array at \"%s\" .", pointer));
+      }
+
+      return false;
+    }
+    array = parser.getParsingContext();
+
+    return true;
+  }
+
+  /**
+   * skip the rest of broken element .
+   *
+   * @throws IOException if the content is not a valid JSON, or a low-level I/O problem occurs
+   */
+  private void resync() throws IOException {
+    for (JsonToken token = parser.currentToken(); token != null && parser.getParsingContext() != array; token = parser.nextToken()) {
+      if (token.isStructStart()) {
+        parser.skipChildren();
+        if (parser.getParsingContext() == array) {
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    try {
+      for (JsonToken token = done || (array == null && !seek()) ? null : parser.nextToken(); token != null && !JsonToken.END_ARRAY.equals(token); token = parser.nextToken()) {
+        final T element;
+        try {
+          element = reader.readValue(parser);
+        } catch (JsonMappingException | RuntimeException e) {
+          if (OnFailure.THROW.equals(onFailure)) {
+            throw e;
+          }
+          resync();
+          if (OnFailure.SKIP.equals(onFailure)) {
+            continue;
+          }
+          action.accept(null);
+
+          return true;
+        }
+        action.accept(element);
+
+        return true;
+      }
+    } catch (IOException e) {
+      if (OnFailure.THROW.equals(onFailure)) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    done = true;
+
+    return false;
+  }
+}
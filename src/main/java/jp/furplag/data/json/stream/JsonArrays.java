@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * read the elements of huge JSON array one at a time .
+ *
+ * @author furplag
+ *
+ */
+public interface JsonArrays {
+
+  /**
+   * returns the lazy {@link Stream} of elements of the array which the pointer points, the parser never closes .
+   * <p>
+   * only one element materializes at a time, so that the memory stays bounded by the largest element .
+   * the element which failed to bind is handled by {@link OnFailure}, but the iteration ends at the broken JSON
+   * ( or raises {@link java.io.UncheckedIOException} if {@link OnFailure#THROW} ) since the parser could not recover from it .
+   * </p>
+   *
+   * @param <T> the type of element
+   * @param parser {@link JsonParser}, which may be not started yet
+   * @param pointer {@link JsonPointer} of the array, the root if null
+   * @param reader {@link ObjectReader} which the type of element already resolved
+   * @param onFailure how to handle the element which failed to deserialize
+   * @return the stream of elements, or empty if the array not found
+   */
+  static <T> Stream<T> stream(final JsonParser parser, final JsonPointer pointer, final ObjectReader reader, final OnFailure onFailure) {
+    return parser == null || reader == null ? Stream.empty() : StreamSupport.stream(new ElementSpliterator<T>(parser, pointer, reader, onFailure), false);
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * serialize the batch of objects in parallel, keeping the order of input .
+ *
+ * @author furplag
+ *
+ */
+public interface JsonBatches {
+
+  /**
+   * serialize each object in parallel .
+   *
+   * @param sources the objects
+   * @param serializer serialize an object, which never throws
+   * @param executor {@link Executor}, or {@link ForkJoinPool#commonPool()} if null
+   * @return the results in the order of input
+   */
+  static List<String> serialize(final Collection<?> sources, final Function<Object, String> serializer, final Executor executor) {
+    final Object[] elements = sources == null ? new Object[0] : sources.toArray();
+    final String[] results = new String[elements.length];
+    fork(elements.length, (start, end) -> {
+      for (int i = start; i < end; i++) {
+        results[i] = serializer.apply(elements[i]);
+      }
+
+      return null;
+    }, executor).forEach(CompletableFuture::join);
+
+    return Arrays.asList(results);
+  }
+
+  /**
+   * serialize each object in parallel, and write them in the order of input, the stream never closes .
+   * <p>
+   * the ranges in flight are at most twice of the parallelism, and each range writes as soon as the ranges before it written,
+   * so that the bytes in memory bounded by the window, not by the number of objects .
+   * the stream stays incomplete if the serializer throws, and then the error raises with the number of objects already written .
+   * </p>
+   *
+   * @param sources the objects
+   * @param serializer serialize an object as UTF-8 encoded bytes, which never throws
+   * @param executor {@link Executor}, or {@link ForkJoinPool#commonPool()} if null
+   * @param destination {@link OutputStream}, do nothing if null
+   * @param framing {@link Framing}
+   * @return the number of objects which written
+   * @throws IOException if error occured, or the serializer throws
+   */
+  static long write(final Collection<?> sources, final Function<Object, byte[]> serializer, final Executor executor, final OutputStream destination, final Framing framing) throws IOException {
+    if (destination == null) {
+      return 0;
+    }
+    final Object[] elements = sources == null ? new Object[0] : sources.toArray();
+    final boolean array = !Framing.LINES.equals(framing);
+    // a range holds 1024 objects at most, which bounds the bytes in flight .
+    final int batchSize = Math.min(1024, batchSize(elements.length));
+    final int window = Runtime.getRuntime().availableProcessors() * 2;
+    final Deque<CompletableFuture<byte[]>> batches = new ArrayDeque<>();
+    if (array) {
+      destination.write('[');
+    }
+    int written = 0;
+    try {
+      for (int start = 0; start < elements.length || !batches.isEmpty();) {
+        for (; start < elements.length && batches.size() < window; start += batchSize) {
+          final int _start = start;
+          final int _end = Math.min(elements.length, start + batchSize);
+          batches.add(CompletableFuture.supplyAsync(() -> render(elements, _start, _end, serializer, array), executor == null ? ForkJoinPool.commonPool() : executor));
+        }
+        destination.write(batches.peek().join());
+        batches.poll();
+        written = Math.min(elements.length, written + batchSize);
+      }
+    } catch (CompletionException e) {
+      batches.forEach((batch) -> batch.cancel(false));
+      throw new IOException(String.format("failed to serialize, %d of %d objects already written .", written, elements.length), e.getCause());
+    }
+    if (array) {
+      destination.write(']');
+    }
+    destination.flush();
+
+    return elements.length;
+  }
+
+  /**
+   * DRY : serialize the range of objects, with the separators of the framing .
+   *
+   * @param elements the objects
+   * @param start the index of the first object, inclusive
+   * @param end the index of the last object, exclusive
+   * @param serializer serialize an object as UTF-8 encoded bytes
+   * @param array frame as one JSON array if true, or as JSON Lines
+   * @return the bytes of the range
+   */
+  private static byte[] render(final Object[] elements, final int start, final int end, final Function<Object, byte[]> serializer, final boolean array) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    for (int i = start; i < end; i++) {
+      final byte[] serialized = serializer.apply(elements[i]);
+      if (array && i > 0) {
+        bytes.write(',');
+      }
+      bytes.writeBytes(serialized == null ? nullValue() : serialized);
+      if (!array) {
+        bytes.write('\n');
+      }
+    }
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * DRY : "null" .
+   *
+   * @return "null" as bytes
+   */
+  private static byte[] nullValue() {
+    return new byte[] { 'n', 'u', 'l', 'l' };
+  }
+
+  /**
+   * fan the ranges of indexes out to the executor, the last range runs on the current thread .
+   *
+   * @param <R> the type of result
+   * @param size the number of elements
+   * @param task the task to process the range of indexes
+   * @param executor {@link Executor}, or {@link ForkJoinPool#commonPool()} if null
+   * @return the results of each range in order
+   */
+  private static <R> List<CompletableFuture<R>> fork(final int size, final BiFunction<Integer, Integer, R> task, final Executor executor) {
+    final int batchSize = batchSize(size);
+    final List<CompletableFuture<R>> batches = new ArrayList<>();
+    for (int start = 0; start < size; start += batchSize) {
+      final int _start = start;
+      final int _end = Math.min(size, start + batchSize);
+      batches.add(_end < size ? CompletableFuture.supplyAsync(() -> task.apply(_start, _end), executor == null ? ForkJoinPool.commonPool() : executor) : CompletableFuture.completedFuture(task.apply(_start, _end)));
+    }
+
+    return batches;
+  }
+
+  /**
+   * DRY : returns the number of objects in a range, so that each thread takes about four ranges .
+   *
+   * @param size the number of elements
+   * @return the number of objects in a range
+   */
+  private static int batchSize(final int size) {
+    return Math.max(64, -Math.floorDiv(-size, Runtime.getRuntime().availableProcessors() * 4));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * deserialize from the chunks of UTF-8 encoded JSON as they arrive, using the non-blocking parser, and serialize into the chunks as demanded .
+ * <p>
+ * the thread never blocks for the chunks which not arrived yet, and the content never copies as a whole .
+ * the features of the factory work as far as the non-blocking parser supports ( e.g. comments, single quotes, trailing commas ) .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public interface JsonChunks {
+
+  /**
+   * returns {@link ChunkedReader} which feeds the chunks, and completes with the value .
+   *
+   * @param <T> the type of value
+   * @param factory {@link JsonFactory} which creates the non-blocking parser
+   * @param reader {@link ObjectReader} which the type of value already resolved, the result completes with null if null
+   * @return {@link ChunkedReader}
+   */
+  static <T> ChunkedReader<T> reader(final JsonFactory factory, final ObjectReader reader) {
+    return new ChunkedReader<>(factory, reader);
+  }
+
+  /**
+   * returns the value which deserializes from the chunks .
+   *
+   * @param <T> the type of value
+   * @param content {@link Flow.Publisher} of chunks
+   * @param factory {@link JsonFactory} which creates the non-blocking parser
+   * @param reader {@link ObjectReader} which the type of value already resolved
+   * @return {@link CompletableFuture} which completes with the value, or null if the content or the type is null
+   */
+  static <T> CompletableFuture<T> read(final Flow.Publisher<ByteBuffer> content, final JsonFactory factory, final ObjectReader reader) {
+    final ChunkedReader<T> chunkedReader = reader(factory, content == null ? null : reader);
+    if (content != null && !chunkedReader.result().isDone()) {
+      content.subscribe(chunkedReader);
+    }
+
+    return chunkedReader.result();
+  }
+
+  /**
+   * returns {@link Flow.Publisher} of values which deserialize from the chunks, the values are separated by whitespace ( e.g. JSON Lines ) .
+   *
+   * @param <T> the type of value
+   * @param content {@link Flow.Publisher} of chunks
+   * @param factory {@link JsonFactory} which creates the non-blocking parser
+   * @param reader {@link ObjectReader} which the type of value already resolved
+   * @return {@link Flow.Publisher} of values, which completes without any value if the content or the type is null
+   */
+  static <T> Flow.Publisher<T> publisher(final Flow.Publisher<ByteBuffer> content, final JsonFactory factory, final ObjectReader reader) {
+    return content == null || reader == null ? (subscriber) -> {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(final long n) {/* nothing to emit . */}
+
+        @Override
+        public void cancel() {/* nothing to cancel . */}
+      });
+      subscriber.onComplete();
+    } : new ChunkedPublisher<>(content, factory, reader);
+  }
+
+  /**
+   * returns {@link ChunkedWriter} which serializes the objects into the chunks as demanded .
+   *
+   * @param mapper {@link ObjectMapper} which creates the generator
+   * @param writers returns {@link ObjectWriter} for the object
+   * @param framing {@link Framing#ARRAY} or {@link Framing#LINES}
+   * @param chunkSize the capacity of chunk in bytes
+   * @param flushInterval the interval to emit the chunk which not filled up, never flush by time if null, zero or negative
+   * @return {@link ChunkedWriter}
+   * @throws IllegalArgumentException if the size of chunk is not positive
+   */
+  static ChunkedWriter writer(final ObjectMapper mapper, final Function<Object, ObjectWriter> writers, final Framing framing, final int chunkSize, final Duration flushInterval) {
+    return new ChunkedWriter(mapper, writers, framing, chunkSize, flushInterval);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * read and write JSON Lines ( newline-delimited JSON ) .
+ *
+ * @author furplag
+ *
+ */
+public interface JsonLines {
+
+  /**
+   * returns the lazy {@link Stream} of records which read from the JSON Lines, the stream never closes .
+   * <p>
+   * each line deserialize directly from the reused buffer, so that a broken line never affects to the others .
+   * blank lines are ignored .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link InputStream} of JSON Lines
+   * @param reader {@link ObjectReader} which the type of record already resolved
+   * @param onFailure how to handle the record which failed to deserialize
+   * @return the stream of records, which raises {@link java.io.UncheckedIOException} if a low-level I/O problem occurs
+   */
+  static <T> Stream<T> stream(final InputStream content, final ObjectReader reader, final OnFailure onFailure) {
+    return content == null || reader == null ? Stream.empty() : StreamSupport.stream(new LineSpliterator<T>(content, reader, onFailure), false);
+  }
+
+  /**
+   * returns the parallel {@link Stream} of records which read from the JSON Lines .
+   * <p>
+   * the content splits into the chunks on the end of line, and each chunk parses on the fork-join pool .
+   * the position and the limit of the buffer never change .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link ByteBuffer} of JSON Lines, reads the remaining bytes
+   * @param reader {@link ObjectReader} which the type of record already resolved
+   * @param onFailure how to handle the record which failed to deserialize
+   * @param ordered returns records in the order of content if true
+   * @return the parallel stream of records
+   */
+  static <T> Stream<T> parallel(final ByteBuffer content, final ObjectReader reader, final OnFailure onFailure, final boolean ordered) {
+    return content == null || reader == null ? Stream.empty() : parallel(new ByteBuffer[] { content.slice() }, reader, onFailure, ordered);
+  }
+
+  /**
+   * returns the parallel {@link Stream} of records which read from the JSON Lines file, the file maps into the memory .
+   * <p>
+   * the file maps window by window which each ends with the end of line, so that the file which larger than 2 GB could read .
+   * </p>
+   *
+   * @param <T> the type of record
+   * @param content {@link Path} of JSON Lines
+   * @param reader {@link ObjectReader} which the type of record already resolved
+   * @param onFailure how to handle the record which failed to deserialize
+   * @param ordered returns records in the order of content if true
+   * @return the parallel stream of records
+   * @throws IOException if the file could not map
+   */
+  static <T> Stream<T> parallel(final Path content, final ObjectReader reader, final OnFailure onFailure, final boolean ordered) throws IOException {
+    if (content == null || reader == null) {
+      return Stream.empty();
+    }
+    try (FileChannel channel = FileChannel.open(content, StandardOpenOption.READ)) {
+      return parallel(LineChunkSpliterator.map(channel, MappedInputStream.defaultWindowSize), reader, onFailure, ordered);
+    }
+  }
+
+  /**
+   * DRY : returns the parallel {@link Stream} of records .
+   *
+   * @param <T> the type of record
+   * @param windows the windows of the content, each ends with the end of line
+   * @param reader {@link ObjectReader} which the type of record already resolved
+   * @param onFailure how to handle the record which failed to deserialize
+   * @param ordered returns records in the order of content if true
+   * @return the parallel stream of records
+   */
+  private static <T> Stream<T> parallel(final ByteBuffer[] windows, final ObjectReader reader, final OnFailure onFailure, final boolean ordered) {
+    final Stream<T> stream = StreamSupport.stream(new LineChunkSpliterator<T>(windows, reader, onFailure), true);
+
+    return ordered ? stream : stream.unordered();
+  }
+
+  /**
+   * write the records as JSON Lines using the generator, the generator never closes .
+   *
+   * @param source the records, null turns into "null"
+   * @param generator {@link JsonGenerator}
+   * @param writers returns {@link ObjectWriter} for the record
+   * @return the number of records which written
+   * @throws IOException if error occured
+   */
+  static long write(final Stream<?> source, final JsonGenerator generator, final Function<Object, ObjectWriter> writers) throws IOException {
+    generator.setRootValueSeparator(null);
+    long written = 0;
+    for (final Iterator<?> records = source.iterator(); records.hasNext(); written++) {
+      final Object record = records.next();
+      if (record == null) {
+        generator.writeNull();
+      } else {
+        writers.apply(record).writeValue(generator, record);
+      }
+      generator.writeRaw('\n');
+    }
+    generator.flush();
+
+    return written;
+  }
+}
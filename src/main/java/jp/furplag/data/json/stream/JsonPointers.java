@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * code snippets for {@link JsonPointer} over the streaming {@link JsonParser} .
+ *
+ * @author furplag
+ *
+ */
+public interface JsonPointers {
+
+  /**
+   * move the parser to the value which the pointer points, skipping every subtree which not on the path .
+   *
+   * @param parser {@link JsonParser}, which may be not started yet
+   * @param pointer {@link JsonPointer}, the root if null
+   * @return true if the parser stays on the first token of the value, or false if the value not found
+   * @throws IOException if the content is not a valid JSON, or a low-level I/O problem occurs
+   */
+  static boolean seek(final JsonParser parser, final JsonPointer pointer) throws IOException {
+    JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+    for (JsonPointer path = pointer == null ? JsonPointer.empty() : pointer; token != null && !path.matches(); path = path.tail()) {
+      if (JsonToken.START_OBJECT.equals(token)) {
+        token = seekProperty(parser, path.getMatchingProperty());
+      } else if (JsonToken.START_ARRAY.equals(token)) {
+        token = seekIndex(parser, path.getMatchingIndex());
+      } else {
+        token = null;
+      }
+    }
+
+    return token != null;
+  }
+
+  /**
+   * bind only the value which the pointer points, skipping every subtree which not on the path, and never reads after the value .
+   *
+   * @param <T> the type of value
+   * @param parser {@link JsonParser}, which may be not started yet
+   * @param pointer {@link JsonPointer}, the root if null
+   * @param reader {@link ObjectReader} which the type of value already resolved
+   * @return the value, or null if the value not found
+   * @throws IOException if the content is not a valid JSON, or a low-level I/O problem occurs
+   */
+  static <T> T extract(final JsonParser parser, final JsonPointer pointer, final ObjectReader reader) throws IOException {
+    return seek(parser, pointer) ? reader.readValue(parser) : null;
+  }
+
+  /**
+   * DRY : move the parser to the value of the property .
+   *
+   * @param parser {@link JsonParser} which stays on {@link JsonToken#START_OBJECT}
+   * @param name the name of property
+   * @return the first token of the value, or null if not found
+   * @throws IOException if the content is not a valid JSON, or a low-level I/O problem occurs
+   */
+  private static JsonToken seekProperty(final JsonParser parser, final String name) throws IOException {
+    while (JsonToken.FIELD_NAME.equals(parser.nextToken())) {
+      final boolean matches = name.equals(parser.currentName());
+      final JsonToken token = parser.nextToken();
+      if (matches) {
+        return token;
+      }
+      parser.skipChildren();
+    }
+
+    return null;
+  }
+
+  /**
+   * DRY : move the parser to the element of the array .
+   *
+   * @param parser {@link JsonParser} which stays on {@link JsonToken#START_ARRAY}
+   * @param index the index of element
+   * @return the first token of the element, or null if not found
+   * @throws IOException if the content is not a valid JSON, or a low-level I/O problem occurs
+   */
+  private static JsonToken seekIndex(final JsonParser parser, final int index) throws IOException {
+    for (int i = 0; index > -1; i++) {
+      final JsonToken token = parser.nextToken();
+      if (token == null || JsonToken.END_ARRAY.equals(token)) {
+        break;
+      } else if (i == index) {
+        return token;
+      }
+      parser.skipChildren();
+    }
+
+    return null;
+  }
+}
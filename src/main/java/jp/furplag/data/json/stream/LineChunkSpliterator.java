@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * {@link Spliterator} of JSON Lines which splits the content on record boundaries, so that the records parse in parallel .
+ * <p>
+ * the content consists of the windows which each ends with the end of line ( or the end of content ),
+ * so that no line crosses the windows . splits the windows in half, and then splits the window at the newline next to the middle .
+ * </p>
+ *
+ * @author furplag
+ *
+ * @param <T> the type of record
+ */
+final class LineChunkSpliterator<T> implements Spliterator<T> {
+
+  /** the range less than this never splits . */
+  private static final int minSplitSize = 1 << 14;
+
+  /** the windows of the content . */
+  private final ByteBuffer[] windows;
+
+  /** {@link ObjectReader} which the type of record already resolved . */
+  private final ObjectReader reader;
+
+  /** how to handle the record which failed to deserialize . */
+  private final OnFailure onFailure;
+
+  /** index of current window . */
+  private int window;
+
+  /** the position in current window . */
+  private int position;
+
+  /** index of the last window, inclusive . */
+  private final int lastWindow;
+
+  /** the limit in the last window . */
+  private final int lastLimit;
+
+  /** the buffer to copy the line in, if the window has no accessible array . */
+  private byte[] scratch;
+
+  /**
+   * {@link LineChunkSpliterator} .
+   *
+   * @param windows the windows of the content, each ends with the end of line
+   * @param reader {@link ObjectReader} which the type of record already resolved
+   * @param onFailure how to handle the record which failed to deserialize
+   */
+  LineChunkSpliterator(final ByteBuffer[] windows, final ObjectReader reader, final OnFailure onFailure) {
+    this(windows, reader, onFailure, 0, 0, windows.length - 1, windows.length < 1 ? 0 : windows[windows.length - 1].limit());
+  }
+
+  /**
+   * {@link LineChunkSpliterator} .
+   *
+   * @param windows the windows of the content, each ends with the end of line
+   * @param reader {@link ObjectReader} which the type of record already resolved
+   * @param onFailure how to handle the record which failed to deserialize
+   * @param window index of the first window
+   * @param position the position in the first window
+   * @param lastWindow index of the last window, inclusive
+   * @param lastLimit the limit in the last window
+   */
+  private LineChunkSpliterator(final ByteBuffer[] windows, final ObjectReader reader, final OnFailure onFailure, final int window, final int position, final int lastWindow, final int lastLimit) {
+    this.windows = windows;
+    this.reader = reader;
+    this.onFailure = onFailure == null ? OnFailure.NULL : onFailure;
+    this.window = window;
+    this.position = position;
+    this.lastWindow = lastWindow;
+    this.lastLimit = lastLimit;
+  }
+
+  /**
+   * map the file into the windows which each ends with the end of line .
+   *
+   * @param channel {@link FileChannel}
+   * @param windowSize the size of each mapping
+   * @return the windows
+   * @throws IOException if the file could not map, or the line is longer than the window
+   */
+  static ByteBuffer[] map(final FileChannel channel, final int windowSize) throws IOException {
+    final List<ByteBuffer> windows = new ArrayList<>();
+    for (long position = 0, size = channel.size(); position < size;) {
+      final ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+      if (position + window.limit() < size) {
+        int limit = window.limit();
+        while (limit > 0 && window.get(limit - 1) != '\n') {
+          limit--;
+        }
+        if (limit < 1) {
+          throw new IOException(String.format("the line at %d is longer than %d bytes .", position, windowSize));
+        }
+        window.limit(limit);
+      }
+      windows.add(window);
+      position += window.limit();
+    }
+
+    return windows.toArray(ByteBuffer[]::new);
+  }
+
+  /**
+   * returns the limit of current window .
+   *
+   * @return the limit of current window
+   */
+  private int limit() {
+    return window < lastWindow ? windows[window].limit() : lastLimit;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    for (; window <= lastWindow; window++, position = 0) {
+      final ByteBuffer buffer = windows[window];
+      final int limit = limit();
+      while (position < limit) {
+        final int start = position;
+        int end = start;
+        while (end < limit && buffer.get(end) != '\n') {
+          end++;
+        }
+        position = Math.min(end + 1, limit);
+        final byte[] bytes = buffer.hasArray() ? buffer.array() : copy(buffer, start, end);
+        final int offset = buffer.hasArray() ? buffer.arrayOffset() + start : 0;
+        if (LineSpliterator.isBlank(bytes, offset, offset + end - start)) {
+          continue;
+        }
+        final T record;
+        try {
+          record = reader.readValue(bytes, offset, end - start);
+        } catch (IOException | RuntimeException e) {
+          if (OnFailure.SKIP.equals(onFailure)) {
+            continue;
+          } else if (OnFailure.THROW.equals(onFailure)) {
+            throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+          }
+          action.accept(null);
+
+          return true;
+        }
+        action.accept(record);
+
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * copy the line into the scratch, for the window which is not backed by an array .
+   *
+   * @param buffer the window
+   * @param start the start of line
+   * @param end the end of line, exclusive
+   * @return the scratch, which the line starts at the head
+   */
+  private byte[] copy(final ByteBuffer buffer, final int start, final int end) {
+    if (scratch == null || scratch.length < end - start) {
+      scratch = new byte[Math.max(8192, Integer.highestOneBit(end - start) << 1)];
+    }
+    buffer.duplicate().position(start).get(scratch, 0, end - start);
+
+    return scratch;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Spliterator<T> trySplit() {
+    if (window < lastWindow) {
+      final int middle = (window + lastWindow + 1) >>> 1;
+      final Spliterator<T> prefix = new LineChunkSpliterator<>(windows, reader, onFailure, window, position, middle - 1, windows[middle - 1].limit());
+      window = middle;
+      position = 0;
+
+      return prefix;
+    }
+    final ByteBuffer buffer = windows.length < 1 ? null : windows[window];
+    if (buffer == null || lastLimit - position < minSplitSize) {
+      return null;
+    }
+    int middle = position + ((lastLimit - position) >>> 1);
+    while (middle < lastLimit && buffer.get(middle - 1) != '\n') {
+      middle++;
+    }
+    if (middle >= lastLimit) {
+      return null;
+    }
+    final Spliterator<T> prefix = new LineChunkSpliterator<>(windows, reader, onFailure, window, position, window, middle);
+    position = middle;
+
+    return prefix;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long estimateSize() {
+    long size = -position;
+    for (int i = window; i <= lastWindow; i++) {
+      size += i < lastWindow ? windows[i].limit() : lastLimit;
+    }
+
+    return Math.max(0, size);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int characteristics() {
+    return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+  }
+}
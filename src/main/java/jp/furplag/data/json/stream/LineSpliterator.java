@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * {@link Spliterator} of JSON Lines which deserialize each line from the reused buffer .
+ *
+ * @author furplag
+ *
+ * @param <T> the type of record
+ */
+final class LineSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+  /** JSON Lines . */
+  private final InputStream content;
+
+  /** {@link ObjectReader} which the type of record already resolved . */
+  private final ObjectReader reader;
+
+  /** how to handle the record which failed to deserialize . */
+  private final OnFailure onFailure;
+
+  /** the buffer, grows up to the length of longest line . */
+  private byte[] buffer = new byte[8192];
+
+  /** the start of the bytes which not yet read . */
+  private int position;
+
+  /** the end of the bytes which filled . */
+  private int limit;
+
+  /** the start of current line . */
+  private int lineStart;
+
+  /** the end of current line, exclusive . */
+  private int lineEnd;
+
+  /** true if the content has reached the end . */
+  private boolean eof;
+
+  /**
+   * {@link LineSpliterator} .
+   *
+   * @param content {@link InputStream} of JSON Lines
+   * @param reader {@link ObjectReader} which the type of record already resolved
+   * @param onFailure how to handle the record which failed to deserialize
+   */
+  LineSpliterator(final InputStream content, final ObjectReader reader, final OnFailure onFailure) {
+    super(Long.MAX_VALUE, Spliterator.ORDERED);
+    this.content = content;
+    this.reader = reader;
+    this.onFailure = onFailure == null ? OnFailure.NULL : onFailure;
+  }
+
+  /**
+   * test if the bytes are all whitespace .
+   *
+   * @param bytes the buffer
+   * @param start the start of line
+   * @param end the end of line, exclusive
+   * @return true if the line has no record
+   */
+  static boolean isBlank(final byte[] bytes, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\r') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * read more bytes from the content, the bytes which not yet read move to the head of the buffer .
+   *
+   * @throws IOException if a low-level I/O problem occurs
+   */
+  private void fill() throws IOException {
+    if (position > 0) {
+      System.arraycopy(buffer, position, buffer, 0, limit - position);
+      limit -= position;
+      position = 0;
+    }
+    if (limit == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length << 1);
+    }
+    final int read = content.read(buffer, limit, buffer.length - limit);
+    eof = read < 0;
+    limit += Math.max(read, 0);
+  }
+
+  /**
+   * step into the next line .
+   *
+   * @return false if there are no more lines
+   * @throws IOException if a low-level I/O problem occurs
+   */
+  private boolean nextLine() throws IOException {
+    for (int scan = position;; fill()) {
+      for (; scan < limit; scan++) {
+        if (buffer[scan] == '\n') {
+          return line(scan, scan + 1);
+        }
+      }
+      if (eof) {
+        return position < limit && line(limit, limit);
+      }
+      scan -= position;
+    }
+  }
+
+  /**
+   * DRY : update the range of current line .
+   *
+   * @param end the end of line, exclusive
+   * @param next the start of next line
+   * @return true
+   */
+  private boolean line(final int end, final int next) {
+    lineStart = position;
+    lineEnd = end;
+    position = next;
+
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    try {
+      while (nextLine()) {
+        if (isBlank(buffer, lineStart, lineEnd)) {
+          continue;
+        }
+        final T record;
+        try {
+          record = reader.readValue(buffer, lineStart, lineEnd - lineStart);
+        } catch (IOException | RuntimeException e) {
+          if (OnFailure.SKIP.equals(onFailure)) {
+            continue;
+          } else if (OnFailure.THROW.equals(onFailure)) {
+            throw e;
+          }
+          action.accept(null);
+
+          return true;
+        }
+        action.accept(record);
+
+        return true;
+      }
+
+      return false;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
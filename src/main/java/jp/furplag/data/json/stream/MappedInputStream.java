@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * {@link InputStream} which reads the file through memory-mapped windows, so that the file never copies into the heap .
+ * <p>
+ * the file maps with {@link FileChannel#map(FileChannel.MapMode, long, long)} window by window,
+ * so that the file which larger than 2 GB could read .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class MappedInputStream extends InputStream {
+
+  /** the size of window in default . */
+  public static final int defaultWindowSize = 1 << 30;
+
+  /** {@link FileChannel} . */
+  private final FileChannel channel;
+
+  /** the end of the region to read, exclusive . */
+  private final long end;
+
+  /** the size of each mapping . */
+  private final int windowSize;
+
+  /** the position of next window . */
+  private long position;
+
+  /** current window . */
+  private ByteBuffer window;
+
+  /**
+   * {@link MappedInputStream} .
+   *
+   * @param channel {@link FileChannel}, which closes when this stream closed
+   * @param position the start of the region to read
+   * @param size the size of the region to read
+   * @param windowSize the size of each mapping
+   */
+  MappedInputStream(final FileChannel channel, final long position, final long size, final int windowSize) {
+    if (position < 0 || size < 0 || windowSize < 1) {
+      throw new IllegalArgumentException(String.format("position: %d, size: %d, windowSize: %d .", position, size, windowSize));
+    }
+    this.channel = Objects.requireNonNull(channel);
+    this.position = position;
+    this.end = position + size;
+    this.windowSize = windowSize;
+  }
+
+  /**
+   * open the file as {@link MappedInputStream} .
+   *
+   * @param path {@link Path} of the file
+   * @return {@link MappedInputStream}
+   * @throws IOException if the file could not open
+   */
+  public static MappedInputStream open(final Path path) throws IOException {
+    return open(path, defaultWindowSize);
+  }
+
+  /**
+   * open the file as {@link MappedInputStream} .
+   *
+   * @param path {@link Path} of the file
+   * @param windowSize the size of each mapping
+   * @return {@link MappedInputStream}
+   * @throws IOException if the file could not open
+   */
+  public static MappedInputStream open(final Path path, final int windowSize) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new MappedInputStream(channel, 0, channel.size(), windowSize);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * returns the window which has remaining bytes, map the next region if needed .
+   *
+   * @return the window, or null if reached the end
+   * @throws IOException if the region could not map
+   */
+  private ByteBuffer window() throws IOException {
+    if (window == null || !window.hasRemaining()) {
+      window = null;
+      if (position < end) {
+        final long size = Math.min(windowSize, end - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        position += size;
+      }
+    }
+
+    return window;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read() throws IOException {
+    final ByteBuffer window = window();
+
+    return window == null ? -1 : window.get() & 0xff;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    final ByteBuffer window = length < 1 ? null : window();
+    if (window == null) {
+      return length < 1 ? 0 : -1;
+    }
+    final int read = Math.min(length, window.remaining());
+    window.get(bytes, offset, read);
+
+    return read;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long skip(final long n) throws IOException {
+    final long skip = Math.max(0, Math.min(n, remaining()));
+    final int inWindow = window == null ? 0 : (int) Math.min(skip, window.remaining());
+    if (inWindow > 0) {
+      window.position(window.position() + inWindow);
+    }
+    if (skip > inWindow) {
+      window = null;
+      position += skip - inWindow;
+    }
+
+    return skip;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int available() {
+    return (int) Math.min(Integer.MAX_VALUE, remaining());
+  }
+
+  /**
+   * returns the number of bytes which not yet read .
+   *
+   * @return the number of bytes which not yet read
+   */
+  private long remaining() {
+    return end - position + (window == null ? 0 : window.remaining());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+}
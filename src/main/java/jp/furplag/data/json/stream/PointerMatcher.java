@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * the set of {@link JsonPointer} which compiled into a tree of the path, to bind all of the values in one pass over the streaming {@link JsonParser} .
+ * <p>
+ * every subtree which not on any path skips without binding, and the parser never reads after all of the values found .
+ * so that the value of the duplicated property is the last occurrence read before all of the values found, and the later one is ignored ( e.g. the value of "/a" is 1 in {"a": 1, "b": 2, "a": 3} if "/b" also points ) .
+ * the value which the other pointer points inside, buffers only the value itself to bind twice .
+ * the matcher never changes after compiled, so that it could be shared between threads .
+ * </p>
+ *
+ * @author furplag
+ *
+ */
+public final class PointerMatcher {
+
+  /** the root of the path . */
+  private final Node root;
+
+  /** {@link ObjectReader} of each value, in the order of the pointers . */
+  private final ObjectReader[] readers;
+
+  /**
+   * {@link PointerMatcher} .
+   *
+   * @param pointers {@link JsonPointer}, the root if null
+   * @param readers {@link ObjectReader} of each value, which the type of value already resolved
+   */
+  private PointerMatcher(final List<JsonPointer> pointers, final List<ObjectReader> readers) {
+    this.root = new Node();
+    this.readers = readers.toArray(new ObjectReader[0]);
+    for (int i = 0; i < this.readers.length; i++) {
+      Node node = root;
+      for (JsonPointer path = pointers.get(i) == null ? JsonPointer.empty() : pointers.get(i); !path.matches(); path = path.tail()) {
+        node = node.child(path);
+      }
+      node.slots = Arrays.copyOf(node.slots, node.slots.length + 1);
+      node.slots[node.slots.length - 1] = i;
+    }
+  }
+
+  /**
+   * compile the pointers into {@link PointerMatcher} .
+   *
+   * @param pointers {@link JsonPointer}, the root if null
+   * @param readers {@link ObjectReader} of each value, in the order of the pointers
+   * @return {@link PointerMatcher}
+   * @throws IllegalArgumentException if the number of readers is not the same as the pointers, or any of readers is null
+   */
+  public static PointerMatcher compile(final List<JsonPointer> pointers, final List<ObjectReader> readers) {
+    if (pointers.size() != readers.size() || readers.contains(null)) {
+      throw new IllegalArgumentException("each pointer needs the reader .");
+    }
+
+    return new PointerMatcher(pointers, readers);
+  }
+
+  /**
+   * returns the number of pointers .
+   *
+   * @return the number of pointers
+   */
+  public int size() {
+    return readers.length;
+  }
+
+  /**
+   * bind the values which the pointers point, in one pass .
+   *
+   * @param parser {@link JsonParser}, which may be not started yet
+   * @return the values in the order of the pointers, the value not found is null
+   * @throws IOException if the content is not a valid JSON, the value failed to bind, or a low-level I/O problem occurs
+   */
+  public Object[] match(final JsonParser parser) throws IOException {
+    final Object[] values = new Object[readers.length];
+    if ((parser.hasCurrentToken() || parser.nextToken() != null) && readers.length > 0) {
+      match(parser, root, values, new boolean[readers.length], new int[] { readers.length });
+    }
+
+    return values;
+  }
+
+  /**
+   * DRY : bind the values on the node, and then the values under the node .
+   *
+   * @param parser {@link JsonParser} which stays on the first token of the value
+   * @param node {@link Node}
+   * @param values the values
+   * @param found whether each of values found already
+   * @param remaining the number of values not found yet
+   * @return true if all of the values found
+   * @throws IOException if the content is not a valid JSON, the value failed to bind, or a low-level I/O problem occurs
+   */
+  private boolean match(final JsonParser parser, final Node node, final Object[] values, final boolean[] found, final int[] remaining) throws IOException {
+    if (node.slots.length < 1) {
+      return children(parser, node, values, found, remaining);
+    } else if (node.slots.length == 1 && node.properties.isEmpty()) {
+      bind(node.slots[0], readers[node.slots[0]].readValue(parser), values, found, remaining);
+
+      return remaining[0] < 1;
+    }
+    final TokenBuffer buffer = new TokenBuffer(parser);
+    buffer.copyCurrentStructure(parser);
+    for (int slot : node.slots) {
+      try (JsonParser buffered = buffer.asParser()) {
+        buffered.nextToken();
+        bind(slot, readers[slot].readValue(buffered), values, found, remaining);
+      }
+    }
+    if (remaining[0] > 0 && !node.properties.isEmpty()) {
+      try (JsonParser buffered = buffer.asParser()) {
+        buffered.nextToken();
+        children(buffered, node, values, found, remaining);
+      }
+    }
+
+    return remaining[0] < 1;
+  }
+
+  /**
+   * DRY : bind the values under the node, skipping every subtree which not on the path .
+   *
+   * @param parser {@link JsonParser} which stays on the first token of the value
+   * @param node {@link Node}
+   * @param values the values
+   * @param found whether each of values found already
+   * @param remaining the number of values not found yet
+   * @return true if all of the values found
+   * @throws IOException if the content is not a valid JSON, the value failed to bind, or a low-level I/O problem occurs
+   */
+  private boolean children(final JsonParser parser, final Node node, final Object[] values, final boolean[] found, final int[] remaining) throws IOException {
+    if (JsonToken.START_OBJECT.equals(parser.currentToken())) {
+      while (JsonToken.FIELD_NAME.equals(parser.nextToken())) {
+        final Node child = node.properties.get(parser.currentName());
+        parser.nextToken();
+        if (child == null) {
+          parser.skipChildren();
+        } else if (match(parser, child, values, found, remaining)) {
+          return true;
+        }
+      }
+    } else if (JsonToken.START_ARRAY.equals(parser.currentToken()) && !node.elements.isEmpty()) {
+      for (int i = 0; !isEndOfArray(parser.nextToken()); i++) {
+        final Node child = node.elements.get(i);
+        if (child == null) {
+          parser.skipChildren();
+        } else if (match(parser, child, values, found, remaining)) {
+          return true;
+        }
+      }
+    } else {
+      parser.skipChildren();
+    }
+
+    return false;
+  }
+
+  /**
+   * DRY : set the value, and count the slot only at the first time even if the property duplicated .
+   *
+   * @param slot the index of values
+   * @param value the value
+   * @param values the values
+   * @param found whether each of values found already
+   * @param remaining the number of values not found yet
+   */
+  private static void bind(final int slot, final Object value, final Object[] values, final boolean[] found, final int[] remaining) {
+    values[slot] = value;
+    if (!found[slot]) {
+      found[slot] = true;
+      remaining[0]--;
+    }
+  }
+
+  /**
+   * DRY : test if the token is the end of array .
+   *
+   * @param token {@link JsonToken}
+   * @return true if the token is the end of array, or the end of content
+   */
+  private static boolean isEndOfArray(final JsonToken token) {
+    return token == null || JsonToken.END_ARRAY.equals(token);
+  }
+
+  /**
+   * a segment of the path .
+   */
+  private static final class Node {
+
+    /** the children, keyed by the name of property . */
+    private final Map<String, Node> properties = new HashMap<>();
+
+    /** the children, keyed by the index of element . */
+    private final Map<Integer, Node> elements = new HashMap<>();
+
+    /** the index of values which the pointers point this node . */
+    private int[] slots = {};
+
+    /**
+     * returns the child of the segment, and create it if not exists .
+     *
+     * @param path {@link JsonPointer} which the first segment is of the child
+     * @return the child
+     */
+    private Node child(final JsonPointer path) {
+      final Node child = properties.computeIfAbsent(path.getMatchingProperty(), (_name) -> new Node());
+      final int index = path.getMatchingIndex();
+      if (index > -1) {
+        elements.put(index, child);
+      }
+
+      return child;
+    }
+  }
+}
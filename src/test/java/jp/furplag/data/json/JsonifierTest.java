@@ -16,25 +16,46 @@
 package jp.furplag.data.json;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
@@ -43,6 +64,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
+import jp.furplag.data.json.stream.Framing;
 import jp.furplag.sandbox.reflect.SavageReflection;
 import jp.furplag.sandbox.trebuchet.Trebuchet;
 
@@ -64,6 +86,60 @@ public class JsonifierTest {
     System.setProperty("line.separator", "\n");
   }
 
+  @Test
+  void bytes() throws Throwable {
+    Instance that = new Instance();
+    that.versionNo = 1;
+    that.deleted = false;
+    that.created = LocalDateTime.of(2017, 1, 1, 1, 23, 45).plus(678, ChronoUnit.MILLIS);
+    that.modified = LocalDateTime.of(2017, 1, 23, 0, 0, 0);
+    final byte[] content = "__{versionNo: '1', deleted: false, created: '2017-01-01T01:23:45.678', modified: '2017年1月23日'}__".getBytes(StandardCharsets.UTF_8);
+    assertEquals(that, Jsonifier.deserializeBytes(content, 2, content.length - 4, Instance.class));
+    assertEquals(that, Jsonifier.deserializeBytesStrictly(content, 2, content.length - 4, new TypeReference<Instance>() {}));
+    assertNull(Jsonifier.deserializeBytes(content, 0, content.length, Instance.class));
+    assertNull(Jsonifier.deserializeBytes(null, 0, 0, Instance.class));
+    assertNull(Jsonifier.deserializeBytes(content, 2, content.length - 4, (Class<?>) null));
+
+    final ByteBuffer heap = ByteBuffer.wrap(content, 2, content.length - 4);
+    assertEquals(that, Jsonifier.deserializeBuffer(heap, Instance.class));
+    assertEquals(2, heap.position());
+    assertEquals(that, Jsonifier.deserializeBuffer(heap.slice(), TypeFactory.defaultInstance().constructType(Instance.class)));
+    assertEquals(that, Jsonifier.deserializeBufferStrictly(heap.asReadOnlyBuffer(), Instance.class));
+    final ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content).flip().position(2).limit(content.length - 2);
+    assertEquals(that, Jsonifier.deserializeBuffer(direct, Instance.class));
+    assertEquals(2, direct.position());
+    assertNull(Jsonifier.deserializeBuffer(null, Instance.class));
+    assertNull(Jsonifier.deserializeBuffer(ByteBuffer.wrap(content), Instance.class));
+
+    assertEquals(Jsonifier.serialize(that), new String(Jsonifier.serializeToBytes(that), StandardCharsets.UTF_8));
+    assertEquals(Jsonifier.serializeStrictly(Arrays.asList("南無阿弥陀仏".split(""))), new String(Jsonifier.serializeToBytesStrictly(Arrays.asList("南無阿弥陀仏".split(""))), StandardCharsets.UTF_8));
+    assertEquals(Jsonifier.serializeOrFailure(that), new String(Jsonifier.serializeToBytesOrFailure(that), StandardCharsets.UTF_8));
+    assertNull(Jsonifier.serializeToBytes(null));
+    assertNull(Jsonifier.serializeToBytesStrictly(null));
+  }
+
+  @SuppressWarnings({ "unchecked" })
+  @Test
+  void cached() throws Throwable {
+    final Map<Object, Object> readers = (Map<Object, Object>) SavageReflection.get(Jsonifier.Shell.profile, "readers");
+    assertEquals(new Nothing(), Jsonifier.deserialize("{}", Nothing.class));
+    final Object reader = readers.get(Nothing.class);
+    assertNotNull(reader);
+    assertEquals(new Nothing(), Jsonifier.deserialize("{}", new TypeReference<Nothing>() {}));
+    assertTrue(reader == readers.get(Nothing.class));
+    assertEquals(new Nothing(), Jsonifier.deserialize("{}", TypeFactory.defaultInstance().constructType(Nothing.class)));
+    assertNotNull(readers.get(TypeFactory.defaultInstance().constructType(Nothing.class)));
+
+    final int cached = readers.size();
+    assertEquals(Map.of("a", 1), Jsonifier.deserialize("{a: 1}", new TypeReference<Map<String, Integer>>() {}));
+    assertEquals(Map.of("b", 2), Jsonifier.deserialize("{b: 2}", new TypeReference<Map<String, Integer>>() {}));
+    assertEquals(cached + 1, readers.size());
+
+    final Map<Class<?>, Object> writers = (Map<Class<?>, Object>) SavageReflection.get(Jsonifier.Shell.profile, "writers");
+    assertEquals("{}", Jsonifier.serialize(new Unseen()));
+    assertNotNull(writers.get(Unseen.class));
+  }
+
   @Test
   void deserialize() throws Throwable {
     assertEquals(new Nothing(), Jsonifier.deserializeStrictly("{}", Nothing.class));
@@ -189,7 +265,7 @@ public class JsonifierTest {
     assertNull(Jsonifier.deserialize("{versionNo: '1', deleted: false, created: '2017-01-01T01:23:45.678', modified: '2017-01-23T01:23:45.678'}", TypeFactory.defaultInstance().constructType(Another.class)));
     assertNull(Jsonifier.deserialize("{versionNo: '1', deleted: false, created: '2017-01-01T01:23:45.678', modified: '2017-01-23T01:23:45.678'}", new TypeReference<Set<Integer>>() {}));
 
-    ObjectMapper mapper = ((ObjectMapper) SavageReflection.get(Jsonifier.Shell.class, "mapper"));
+    ObjectMapper mapper = ((ObjectMapper) SavageReflection.get(Jsonifier.Shell.profile, "mapper"));
     mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, true);
     SavageReflection.set(Jsonifier.class, "mapper", mapper);
     try {
@@ -203,6 +279,8 @@ public class JsonifierTest {
 
     final String expect = Trebuchet.Functions.orElse((Object) null, (x) -> Jsonifier.serializeStrictly(new Nothing()), (t, e) -> String.format("{\"jsonifier.serializationFailure\":{\"error\":\"%s\",\"message\":\"%s\"}}", e.getClass().getName(), e.getMessage()));
     assertEquals(expect, Jsonifier.serializeOrFailure(new Nothing()));
+    assertNull(Jsonifier.serializeToBytes(new Nothing()));
+    assertEquals(expect, new String(Jsonifier.serializeToBytesOrFailure(new Nothing()), StandardCharsets.UTF_8));
 
     mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
     SavageReflection.set(Jsonifier.class, "mapper", mapper);
@@ -301,6 +379,47 @@ public class JsonifierTest {
     assertEquals("\"諸\"", Jsonifier.serializeStrictly(Character.valueOf("諸行無常".charAt(0))));
   }
 
+  @Test
+  void streams(@TempDir Path directory) throws Throwable {
+    Instance that = new Instance();
+    that.versionNo = 1;
+    that.deleted = false;
+    that.created = LocalDateTime.of(2017, 1, 1, 1, 23, 45).plus(678, ChronoUnit.MILLIS);
+    that.modified = LocalDateTime.of(2017, 1, 23, 0, 0, 0);
+    final String expect = Jsonifier.serializeStrictly(that);
+
+    final boolean[] closed = { false };
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final OutputStream out = new FilterOutputStream(bytes) {@Override public void close() throws IOException { closed[0] = true; }};
+    assertTrue(Jsonifier.serialize(that, out));
+    assertFalse(closed[0]);
+    assertEquals(expect, bytes.toString(StandardCharsets.UTF_8));
+    assertFalse(Jsonifier.serialize(null, out));
+    assertFalse(Jsonifier.serialize(that, (OutputStream) null));
+    final StringWriter writer = new StringWriter();
+    assertTrue(Jsonifier.serializeStrictly(that, writer));
+    assertEquals(expect, writer.toString());
+    final Path file = directory.resolve("that.json");
+    assertTrue(Jsonifier.serialize(that, file));
+    assertEquals(expect, Files.readString(file));
+    assertFalse(Jsonifier.serialize(new Nothing(), (Path) null));
+
+    final InputStream in = new FilterInputStream(new ByteArrayInputStream("{versionNo: '1', deleted: false, created: '2017-01-01T01:23:45.678', modified: '2017/01/23'} # comment".getBytes(StandardCharsets.UTF_8))) {@Override public void close() throws IOException { closed[0] = true; }};
+    assertEquals(that, Jsonifier.deserializeStream(in, Instance.class));
+    assertFalse(closed[0]);
+    assertEquals(that, Jsonifier.deserializeStreamStrictly(new StringReader(expect), new TypeReference<Instance>() {}));
+    assertEquals(that, Jsonifier.deserializeFile(file, Instance.class));
+    assertNull(Jsonifier.deserializeStream(new StringReader("{versionNo: '1', deleted: "), Instance.class));
+    assertNull(Jsonifier.deserializeFile(directory.resolve("nothing.json"), Instance.class));
+    assertNull(Jsonifier.deserializeFile(file, (Class<?>) null));
+    try {
+      Jsonifier.deserializeFileStrictly(directory.resolve("nothing.json"), Instance.class);
+      fail("raise NoSuchFileException .");
+    } catch (NoSuchFileException e) {
+      assertTrue(e instanceof NoSuchFileException);
+    }
+  }
+
   @Test
   void test() throws JsonProcessingException, IOException {
     assertNull(Jsonifier.deserializeStrictly("0.0", LocalDateTime.class));
@@ -313,5 +432,71 @@ public class JsonifierTest {
     assertEquals("{}", Jsonifier.serializeStrictly(new Unseen()));
     assertEquals("{}", Jsonifier.serializeOrFailure(new Unseen()));
     assertEquals("{\"theInt\":123,\"theString\":[\"南\",\"無\",\"阿\",\"弥\",\"陀\",\"仏\"]}", Jsonifier.serializeBrutaly(new Unseen()));
+    final Instance instance = new Instance();
+    instance.created = LocalDateTime.of(2017, 1, 2, 3, 4, 5);
+    for (Object source : new Object[] { new Unseen(), instance, new Instance() {}, new Nothing() }) {
+      assertEquals(Jsonifier.serialize(SavageReflection.read(source)), Jsonifier.serializeBrutaly(source));
+    }
+    assertEquals("{\"versionNo\":1,\"deleted\":false,\"created\":\"2017-01-02T03:04:05\"}", Jsonifier.serializeBrutaly(instance));
+  }
+
+  @Test
+  void serializeAll() throws IOException {
+    final List<Object> sources = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      sources.add(i % 1000 == 7 ? null : i % 1000 == 8 ? new Unseen() : Map.of("index", i));
+    }
+    final List<String> expect = sources.stream().map(Jsonifier::serializeOrFailure).map((x) -> (String) x).collect(Collectors.toList());
+    assertEquals(expect, Jsonifier.serializeAll(sources));
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      assertEquals(expect, Jsonifier.serializeAll(sources, executor));
+
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      assertEquals(10000, Jsonifier.serializeAll(sources, executor, bytes, Framing.ARRAY));
+      assertEquals(expect.stream().map((x) -> Objects.toString(x, "null")).collect(Collectors.joining(",", "[", "]")), bytes.toString(StandardCharsets.UTF_8));
+      bytes.reset();
+      assertEquals(10000, Jsonifier.serializeAll(sources, executor, bytes, Framing.LINES));
+      assertEquals(expect.stream().map((x) -> Objects.toString(x, "null") + "\n").collect(Collectors.joining()), bytes.toString(StandardCharsets.UTF_8));
+    } finally {
+      executor.shutdown();
+    }
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    assertEquals(0, Jsonifier.serializeAll(null, bytes, Framing.ARRAY));
+    assertEquals("[]", bytes.toString(StandardCharsets.UTF_8));
+    assertEquals(0, Jsonifier.serializeAll(sources, null, Framing.LINES));
+    assertEquals(List.of(), Jsonifier.serializeAll(null));
   }
+
+  @Test
+  void extract() throws IOException {
+    final String content = "{\"body\": {\"items\": [1, 2, 3], \"note\": \"日本語\"}, \"header\": {\"eventType\": \"created\", \"at\": \"2017/01/01\"}, \"trailer\": [{\"a\": null}]}";
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    assertEquals("created", Jsonifier.extract(content, "/header/eventType", String.class));
+    assertEquals("created", Jsonifier.extract(bytes, 0, bytes.length, "/header/eventType", String.class));
+    assertEquals("created", Jsonifier.extract(new ByteArrayInputStream(bytes), "/header/eventType", String.class));
+    assertEquals(LocalDate.of(2017, 1, 1), Jsonifier.extract(content, "/header/at", LocalDate.class));
+    assertEquals(List.of(1, 2, 3), Jsonifier.extract(content, "/body/items", List.class));
+    assertEquals(2, (int) Jsonifier.extract(content, "/body/items/1", Integer.class));
+    assertEquals(Jsonifier.deserialize(content, Map.class), Jsonifier.extract(content, null, Map.class));
+    assertEquals(Jsonifier.deserialize(content, Map.class), Jsonifier.extract(content, "", Map.class));
+    assertNull(Jsonifier.extract(content, "/header/nothing", String.class));
+    assertNull(Jsonifier.extract(content, "/body/items/3", Integer.class));
+    assertNull(Jsonifier.extract(content, "/trailer/0/a", String.class));
+    assertNull(Jsonifier.extract(content, "header", String.class));
+    assertNull(Jsonifier.extract(content, "/header/eventType", null));
+    assertNull(Jsonifier.extract((String) null, "/header/eventType", String.class));
+    assertNull(Jsonifier.extract("<html></html>", "/header/eventType", String.class));
+    assertNull(Jsonifier.extract(content, "/header/eventType", Map.class));
+    assertThrows(IllegalArgumentException.class, () -> Jsonifier.extractStrictly(content, "header", String.class));
+    assertThrows(IOException.class, () -> Jsonifier.extractStrictly(content, "/header/eventType", Map.class));
+    assertThrows(IOException.class, () -> Jsonifier.extractStrictly("{\"body\": [1, }, \"header\": {\"eventType\": \"created\"}}", "/header/eventType", String.class));
+
+    final String truncated = "{\"header\": {\"eventType\": \"created\"}, \"body\": <html>";
+    assertEquals("created", Jsonifier.extractStrictly(new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8)), "/header/eventType", String.class));
+    final InputStream remains = new ByteArrayInputStream(("{\"header\": {\"eventType\": \"created\"}, \"body\": [" + "0, ".repeat(100_000) + "0]}").getBytes(StandardCharsets.UTF_8));
+    assertEquals("created", Jsonifier.extractStrictly(remains, "/header/eventType", String.class));
+    assertTrue(remains.available() > 0);
+   }
 }
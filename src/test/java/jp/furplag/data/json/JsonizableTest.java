@@ -16,10 +16,23 @@
 package jp.furplag.data.json;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import jp.furplag.data.json.JsonizableTest.Zero.AnotherOne;
+import jp.furplag.sandbox.reflect.Reflections;
+import jp.furplag.sandbox.reflect.SavageReflection;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
@@ -47,6 +60,44 @@ public class JsonizableTest {
         super(2, "two");
       }
     }
+
+    static class Transduced implements Zero {
+      private static final long serialVersionUID = 1L;
+      private final int versionNo;
+      private final boolean deleted;
+      private final LocalDateTime created;
+      private final LocalDateTime modified;
+      Transduced(Instance instance) {
+        versionNo = instance.versionNo;
+        deleted = instance.deleted;
+        created = instance.created;
+        modified = instance.modified;
+      }
+    }
+
+    static class Shadowed extends Zero.One {
+      static final String name = "static";
+      final int id = 3;
+      transient Object nothing;
+      Shadowed() {
+        super(1, "one");
+      }
+    }
+
+    static class Widened implements Zero {
+      long id;
+      String name;
+      Object nothing = "nothing";
+    }
+
+    static class Narrowed implements Zero {
+      String nothing;
+    }
+
+    static class Statics implements Zero {
+      static final int id = 0;
+      static String name;
+    }
   }
 
   @Test
@@ -59,4 +110,64 @@ public class JsonizableTest {
     assertEquals(new Zero.One(2, "two"), new Zero.One(1, "test").merge(new Zero.AlwaysTwo()));
     assertEquals(new Zero.One(1, "test"), new Zero.One(1, "test").merge(new Zero.AlwaysTwo(), "id", "name"));
   }
+
+  @Test
+  void merge() {
+    final Zero.Widened widened = (Zero.Widened) new Zero.Widened().merge(new Zero.One(1, "one"));
+    assertEquals(1L, widened.id);
+    assertEquals("one", widened.name);
+    assertEquals("nothing", widened.nothing);
+    assertEquals(0L, ((Zero.Widened) new Zero.Widened().merge(new Zero.One(1, "one"), "id")).id);
+    assertEquals(3L, ((Zero.Widened) new Zero.Widened().merge(new Zero.Shadowed())).id);
+    assertNull(((Zero.Widened) new Zero.Widened().merge(new Zero.Shadowed())).nothing);
+    assertEquals(new Zero.One(1, null), new Zero.One(1, "one").merge(new Zero.Widened()));
+    assertEquals(new Zero.One(1, "one"), new Zero.One(1, "one").merge(null));
+    final Zero.Widened mismatched = new Zero.Widened();
+    mismatched.nothing = 1;
+    assertNull(((Zero.Narrowed) new Zero.Narrowed().merge(mismatched)).nothing);
+    assertEquals("nothing", ((Zero.Narrowed) new Zero.Narrowed().merge(new Zero.Widened())).nothing);
+    new Zero.Statics().merge(new Zero.One(1, "one"));
+    assertEquals("one", Zero.Statics.name);
+    new Zero.Statics().merge(new Zero.One(2, "two"), "name");
+    assertEquals("one", Zero.Statics.name);
+    assertTrue(Merger.of(Zero.One.class, Zero.Widened.class, Set.of("id")) == Merger.of(Zero.One.class, Zero.Widened.class, new HashSet<>(List.of("id"))));
+    assertTrue(Merger.isConvertible(Integer.class, long.class));
+    assertTrue(Merger.isConvertible(Number.class, int.class));
+    assertFalse(Merger.isConvertible(long.class, int.class));
+    assertFalse(Merger.isConvertible(String.class, int.class));
+    assertFalse(Merger.isConvertible(String.class, Integer.class));
+  }
+
+  @Test
+  void map() {
+    for (Zero zero : new Zero[] { new Zero.One(1, "one"), new Zero.AnotherOne(1, "one", 2L), new Zero.AlwaysTwo(), new Zero.Shadowed(), new Zero.One(1, "one") {} }) {
+      final String[] staticFieldNames = Arrays.stream(Reflections.getFields(zero)).filter(Reflections::isStatic).map(Field::getName).toArray(String[]::new);
+      assertEquals(SavageReflection.read(zero, staticFieldNames), zero.map());
+      assertEquals(new ArrayList<>(SavageReflection.read(zero, staticFieldNames).keySet()), new ArrayList<>(zero.map().keySet()));
+    }
+    assertEquals(List.of("version", "id", "name"), new ArrayList<>(new Zero.AnotherOne(1, "one", 2L).map().keySet()));
+    assertEquals(List.of("id", "nothing"), new ArrayList<>(new Zero.Shadowed().map().keySet()));
+    assertEquals(3, new Zero.Shadowed().map().get("id"));
+    assertTrue(FieldAccessors.of(Zero.One.class) == FieldAccessors.of(Zero.One.class));
+  }
+
+  @Test
+  void transduce() {
+    final Instance instance = new Instance();
+    instance.versionNo = 2;
+    instance.created = LocalDateTime.of(2017, 1, 2, 3, 4, 5);
+    instance.modified = LocalDateTime.of(2017, 1, 23, 0, 0, 0);
+    final Zero.Transduced transduced = new Zero.Transduced(instance);
+    assertEquals(Jsonifier.deserialize(transduced.json(), Instance.class), transduced.transduce(Instance.class));
+    assertEquals(instance, transduced.transduce(Instance.class));
+
+    final Instance excluded = transduced.transduce(Instance.class, "versionNo", "created");
+    assertEquals(1, excluded.versionNo);
+    assertNull(excluded.created);
+    assertEquals(instance.modified, excluded.modified);
+    assertEquals(instance, transduced.transduce(Instance.class, "nothing"));
+    assertNull(transduced.transduce(null));
+    assertNull(transduced.transduce(Integer.class));
+    assertTrue(FieldAccessors.withStatic(Zero.Transduced.class) == FieldAccessors.withStatic(Zero.Transduced.class));
+  }
 }
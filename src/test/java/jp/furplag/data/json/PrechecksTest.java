@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jp.furplag.data.json.Result.Reason;
+
+public class PrechecksTest {
+
+  @Test
+  void test() {
+    assertEquals(Reason.EMPTY, Prechecks.check(null, true, true));
+    for (String content : new String[] { "", " ", "\t\r\n " }) {
+      assertEquals(Reason.EMPTY, Prechecks.check(content, true, true), content);
+    }
+    for (String content : new String[] { "<!DOCTYPE html><html></html>", "Internal Server Error", "+1", ".5", "NaN", "}", "]", "nope", "tru", "nul", "fals", "\u0000{}" }) {
+      assertEquals(Reason.NOT_JSON, Prechecks.check(content, true, true), content);
+    }
+    for (String content : new String[] { "{", "{\"a\": [1, 2]", "[", "[{\"a\": 1}", "\"text", " 'text" }) {
+      assertEquals(Reason.TRUNCATED, Prechecks.check(content, true, true), content);
+    }
+    for (String content : new String[] { "{}", " [1, 2] ", "\"text\"", "'text'", "true", "false", "null", "-1", "1.5", "{\"a\": 1}xyz", "/* comment */ {}", "# comment\n[]", "﻿{}", "{\"a\": }" }) {
+      assertNull(Prechecks.check(content, true, true), content);
+    }
+    assertEquals(Reason.NOT_JSON, Prechecks.check("'text'", false, false));
+    assertEquals(Reason.NOT_JSON, Prechecks.check("/* comment */ {}", false, false));
+    assertEquals(Reason.NOT_JSON, Prechecks.check("# comment\n[]", false, false));
+  }
+
+  @Test
+  void bytes() {
+    for (String content : new String[] { "", " ", "<html>", "nope", "{", "[{\"a\": 1}", "{}", "[1, 2]", "true", "null", "-1", "'text'", "/* comment */ {}" }) {
+      final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+      assertEquals(Prechecks.check(content, true, true), Prechecks.check(bytes, 0, bytes.length, true, true), content);
+      assertEquals(Prechecks.check(content, false, false), Prechecks.check(bytes, 0, bytes.length, false, false), content);
+    }
+    assertEquals(Reason.EMPTY, Prechecks.check((byte[]) null, 0, 0, true, true));
+    assertNull(Prechecks.check("<html>[1]".getBytes(StandardCharsets.UTF_8), 6, 3, true, true));
+    assertEquals(Reason.TRUNCATED, Prechecks.check("[1]".getBytes(StandardCharsets.UTF_8), 0, 2, true, true));
+    assertNull(Prechecks.check("<html>".getBytes(StandardCharsets.UTF_16BE), 0, 12, true, true));
+    assertNull(Prechecks.check("<html>".getBytes(StandardCharsets.UTF_16LE), 0, 12, true, true));
+    assertNull(Prechecks.check("﻿<html>".getBytes(StandardCharsets.UTF_8), 0, 9, true, true));
+  }
+
+  @Test
+  void consistency() {
+    final Profile lenient = Profile.lenient().build();
+    final Profile strict = Profile.strict().build();
+    for (String content : new String[] { "", " ", "<html>", "nope", "tru", "{", "[{\"a\": 1}", "\"text", "'text'", "/* comment */ {}", "+1" }) {
+      if (Prechecks.check(content, true, true) != null) {
+        assertThrows(Exception.class, () -> lenient.deserializeStrictly(content, Map.class), content);
+      }
+      if (Prechecks.check(content, false, false) != null) {
+        assertThrows(Exception.class, () -> strict.deserializeStrictly(content, Map.class), content);
+      }
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import jp.furplag.data.json.metrics.Listener.Operation;
+import jp.furplag.data.json.metrics.Metrics;
+import jp.furplag.sandbox.reflect.SavageReflection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class ProfileTest {
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Bean {
+    private long id;
+    private String name;
+    private LocalDateTime created;
+  }
+
+  public static class Loop {
+    public Loop getLoop() {
+      return this;
+    }
+  }
+
+  @Test
+  void lenient() throws Throwable {
+    final Profile lenient = Profile.lenient().build();
+    for (String content : new String[] { "{\"a\": 1}", "{'a': 1}", "{a: 1}", "{\"a\": 1, }", "{/* comment */ \"a\": 1}", "# comment\n{\"a\": 1}" }) {
+      assertEquals(Map.of("a", 1), lenient.deserializeStrictly(content, new TypeReference<Map<String, Integer>>() {}), content);
+      assertEquals(Jsonifier.<Map<String, Integer>>deserialize(content, new TypeReference<Map<String, Integer>>() {}), lenient.deserialize(content, new TypeReference<Map<String, Integer>>() {}), content);
+    }
+    assertEquals(LocalDate.of(2017, 1, 1), lenient.deserialize("\"2017/01/01\"", LocalDate.class));
+    assertEquals(LocalDateTime.of(2017, 1, 1, 12, 34), lenient.deserialize("\"2017/01/01 12:34\"", LocalDateTime.class));
+    assertEquals(Jsonifier.serialize(Map.of("a", List.of(1, 2))), lenient.serialize(Map.of("a", List.of(1, 2))));
+  }
+
+  @Test
+  void strict() throws Throwable {
+    final Profile strict = Profile.strict().build();
+    assertEquals(Map.of("a", 1), strict.deserializeStrictly("{\"a\": 1}", new TypeReference<Map<String, Integer>>() {}));
+    for (String content : new String[] { "{'a': 1}", "{a: 1}", "{\"a\": 1, }", "{/* comment */ \"a\": 1}", "# comment\n{\"a\": 1}" }) {
+      assertThrows(JsonProcessingException.class, () -> strict.deserializeStrictly(content, new TypeReference<Map<String, Integer>>() {}), content);
+      assertNull(strict.deserialize(content, new TypeReference<Map<String, Integer>>() {}), content);
+    }
+    assertEquals(LocalDate.of(2017, 1, 1), strict.deserialize("\"2017-01-01\"", LocalDate.class));
+    assertNull(strict.deserialize("\"2017/01/01\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), Profile.strict().lenientTemporals(true).build().deserialize("\"2017/01/01\"", LocalDate.class));
+    assertEquals(Map.of("a", 1), Profile.strict().singleQuotes(true).build().deserialize("{'a': 1}", new TypeReference<Map<String, Integer>>() {}));
+    assertNull(Profile.lenient().singleQuotes(false).build().deserialize("{'a': 1}", new TypeReference<Map<String, Integer>>() {}));
+
+    assertEquals("{\"a\":[1,2]}", strict.serialize(Map.of("a", List.of(1, 2))));
+    assertEquals(Jsonifier.serialize(LocalDateTime.of(2017, 1, 1, 12, 34)), strict.serialize(LocalDateTime.of(2017, 1, 1, 12, 34)));
+  }
+
+  @Test
+  void localDateTimeCache() {
+    final Profile profile = Profile.lenient().localDateTimeCacheSize(16).build();
+    for (String content : new String[] { "\"2017/01/01 12:34\"", "\"2017/01/01 12:34\"", "\"2017-01-01T12:34\"" }) {
+      assertEquals(Jsonifier.<LocalDateTime>deserialize(content, LocalDateTime.class), profile.deserialize(content, LocalDateTime.class), content);
+    }
+    assertEquals(1, profile.localDateTimeCacheHits());
+    assertEquals(2, profile.localDateTimeCacheMisses());
+    assertEquals(0, Profile.lenient().build().localDateTimeCacheHits());
+    assertEquals(0, Profile.strict().localDateTimeCacheSize(16).build().localDateTimeCacheMisses());
+    assertEquals(Jsonifier.Shell.localDateTimeCacheSize > 0, Jsonifier.localDateTimeCacheMisses() > 0);
+  }
+
+  @Test
+  void owned() {
+    final Profile profile = Profile.strict().build();
+    final Profile another = Profile.strict().build();
+    assertNotEquals(SavageReflection.get(profile, "mapper"), SavageReflection.get(another, "mapper"));
+    assertNotEquals(SavageReflection.get(Jsonifier.Shell.profile, "mapper"), SavageReflection.get(profile, "mapper"));
+
+    profile.deserialize("{}", ProfileTest.class);
+    assertTrue(((Map<?, ?>) SavageReflection.get(profile, "readers")).containsKey(ProfileTest.class));
+    assertTrue(((Map<?, ?>) SavageReflection.get(another, "readers")).isEmpty());
+  }
+
+  @Test
+  void blackbird() throws Throwable {
+    final Bean bean = new Bean(1L, "blackbird", LocalDateTime.of(2017, 1, 1, 12, 34));
+    for (Profile profile : new Profile[] { Profile.lenient().blackbird(true).build(), Profile.strict().blackbird(true).build(), Profile.lenient().blackbird((type) -> MethodHandles.lookup()).build() }) {
+      final String json = profile.serializeStrictly(bean);
+      assertEquals(Jsonifier.serialize(bean), json);
+      assertEquals(json, profile.serializeStrictly(profile.deserializeStrictly(json, Bean.class)));
+    }
+    assertEquals(Jsonifier.serialize(bean), Profile.lenient().blackbird(true).blackbird(false).build().serialize(bean));
+  }
+
+  @Test
+  void extract() throws Throwable {
+    final Profile strict = Profile.strict().build();
+    final Profile lenient = Profile.lenient().build();
+    final String content = "{'header': {eventType: 'created', \"at\": \"2017/01/01\"}}";
+    assertEquals("created", lenient.extract(content, "/header/eventType", String.class));
+    assertEquals(LocalDate.of(2017, 1, 1), lenient.extract(content, "/header/at", LocalDate.class));
+    assertNull(strict.extract(content, "/header/eventType", String.class));
+    assertThrows(JsonProcessingException.class, () -> strict.extractStrictly(content, "/header/eventType", String.class));
+
+    final String strictContent = "{\"header\": {\"eventType\": \"created\", \"at\": \"2017/01/01\"}}";
+    assertEquals("created", strict.extract(strictContent, "/header/eventType", String.class));
+    assertNull(strict.extract(strictContent, "/header/at", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), lenient.extract(strictContent, "/header/at", LocalDate.class));
+  }
+
+  @Test
+  void listener() throws Throwable {
+    final Metrics metrics = new Metrics();
+    final Profile profile = Profile.lenient().listener(metrics).build();
+    final Bean bean = new Bean(1L, "listener", LocalDateTime.of(2017, 1, 1, 12, 34));
+    final String json = profile.serialize(bean);
+    assertEquals(json, new String(profile.serializeToBytes(bean), "UTF-8"));
+    assertEquals(1L, profile.<Bean>deserialize(json, Bean.class).getId());
+    assertNull(profile.deserialize("{\"id\": \"one\"}", Bean.class));
+    assertNull(profile.deserialize("{", Bean.class));
+
+    assertEquals(2, metrics.of(Operation.SERIALIZE, Bean.class).calls());
+    assertEquals(json.length() * 2, metrics.of(Operation.SERIALIZE, Bean.class).size());
+    profile.serializeBrutaly(bean);
+    assertEquals(3, metrics.of(Operation.SERIALIZE, Bean.class).calls());
+    assertEquals(3, metrics.of(Operation.DESERIALIZE, Bean.class).calls());
+    assertEquals(json.length(), metrics.of(Operation.DESERIALIZE, Bean.class).size());
+    assertEquals(2, metrics.of(Operation.DESERIALIZE, Bean.class).failures());
+    assertEquals(1L, metrics.of(Operation.DESERIALIZE, Bean.class).failuresByError().get(Prechecks.Rejected.class));
+    assertEquals(3, metrics.of(Operation.DESERIALIZE, Bean.class).latency().count());
+    assertNull(metrics.of(Operation.SERIALIZE, ProfileTest.class));
+    assertTrue(String.valueOf(profile.serializeOrFailure(new Loop())).contains("jsonifier.serializationFailure"));
+    assertEquals(1, metrics.of(Operation.SERIALIZE, Loop.class).failures());
+    assertEquals(Set.of(Bean.class, Loop.class), metrics.of(Operation.SERIALIZE).keySet());
+    assertNull(Profile.lenient().build().deserialize("{", Bean.class));
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import jp.furplag.data.json.metrics.Listener.Operation;
+import jp.furplag.data.json.metrics.Metrics;
+
+public class ProjectionTest {
+
+  public static class Route {
+    private final String eventType;
+    private final BigDecimal amount;
+
+    public Route(final String eventType, final BigDecimal amount) {
+      this.eventType = eventType;
+      this.amount = amount;
+    }
+  }
+
+  private static final String content = "{\"body\": {\"items\": [{\"id\": 1}, {\"id\": 2}, {\"id\": 3}], \"amount\": 0.1000000000000000000001, \"note\": \"日本語\"}, \"header\": {\"eventType\": \"created\", \"at\": \"2017/01/01\", \"0\": \"zero\"}, \"trailer\": null}";
+
+  private static InputStream stream(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void test() throws IOException {
+    final Projection<Object[]> projection = Jsonifier.projection("/header/eventType", "/body/items/1/id", "/body/nothing", "/body/items/3", "/trailer", "/header/0", "/body/items/0/id/0");
+    assertEquals(7, projection.size());
+    final Object[] expect = { "created", 2, null, null, null, "zero", null };
+    assertArrayEquals(expect, projection.extract(content));
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expect, projection.extract(bytes, 0, bytes.length));
+    assertArrayEquals(expect, projection.extract(stream(content)));
+    assertArrayEquals(expect, projection.extractStrictly(content));
+    assertArrayEquals(new Object[] { null, null, null, null, null, null, null }, projection.extract("[1, 2, 3]"));
+    assertArrayEquals(new Object[] {}, Jsonifier.projection().extract(content));
+  }
+
+  @Test
+  void typed() {
+    final Map<String, Object> pointers = new LinkedHashMap<>();
+    pointers.put("/body/amount", BigDecimal.class);
+    pointers.put("/header/at", LocalDate.class);
+    pointers.put("/body/items", new TypeReference<List<Map<String, Long>>>() {});
+    pointers.put("/header/eventType", String.class);
+    final Object[] values = Jsonifier.projection(pointers).extract(content);
+    assertEquals(new BigDecimal("0.1000000000000000000001"), values[0]);
+    assertEquals(LocalDate.of(2017, 1, 1), values[1]);
+    assertEquals(List.of(Map.of("id", 1L), Map.of("id", 2L), Map.of("id", 3L)), values[2]);
+    assertEquals("created", values[3]);
+    assertThrows(IllegalArgumentException.class, () -> Jsonifier.projection(Map.of("/header", "not a type")));
+    assertThrows(IllegalArgumentException.class, () -> Jsonifier.projection("header"));
+  }
+
+  @Test
+  void overlapped() {
+    final Map<String, Object> pointers = new LinkedHashMap<>();
+    pointers.put("/header", Map.class);
+    pointers.put("/header/eventType", String.class);
+    pointers.put("", Map.class);
+    pointers.put(null, Object.class);
+    pointers.put("/body/items/2/id", Long.class);
+    final Projection<Object[]> projection = Jsonifier.projection(pointers);
+    final Object[] values = projection.extract(content);
+    assertEquals(Map.of("eventType", "created", "at", "2017/01/01", "0", "zero"), values[0]);
+    assertEquals("created", values[1]);
+    assertEquals(Jsonifier.deserialize(content, Map.class), values[2]);
+    assertEquals(values[2], values[3]);
+    assertEquals(3L, values[4]);
+    pointers.put(null, String.class);
+    assertNull(Jsonifier.projection(pointers).extract(content));
+    assertThrows(IOException.class, () -> Jsonifier.projection(pointers).extractStrictly(content));
+  }
+
+  @Test
+  void record() {
+    final Projection<Route> projection = Jsonifier.projection(Map.of("/header/eventType", String.class)).as((values) -> new Route((String) values[0], null));
+    assertEquals("created", projection.extract(content).eventType);
+    final Map<String, Object> pointers = new LinkedHashMap<>();
+    pointers.put("/header/eventType", String.class);
+    pointers.put("/body/amount", BigDecimal.class);
+    final Route route = Jsonifier.projection(pointers).as((values) -> new Route((String) values[0], (BigDecimal) values[1])).extract(content);
+    assertEquals("created", route.eventType);
+    assertEquals(new BigDecimal("0.1000000000000000000001"), route.amount);
+  }
+
+  @Test
+  void failure() {
+    final Projection<Object[]> projection = Jsonifier.projection("/header/eventType");
+    assertNull(projection.extract((String) null));
+    assertNull(projection.extract((InputStream) null));
+    assertNull(projection.extract("<html></html>"));
+    assertNull(projection.extract("{\"body\": [1, }, \"header\": {\"eventType\": \"created\"}}"));
+    assertNull(projection.extract("{\"body\": [1, 2], \"header\": {\"eventType\": "));
+    assertThrows(IOException.class, () -> projection.extractStrictly("{\"body\": [1, }, \"header\": {\"eventType\": \"created\"}}"));
+    assertThrows(IOException.class, () -> Jsonifier.projection(Map.of("/header", List.class)).extractStrictly(content));
+  }
+
+  @Test
+  void listener() {
+    final Metrics metrics = new Metrics();
+    final Projection<Object[]> projection = Profile.lenient().listener(metrics).build().projection("/header/eventType");
+    assertArrayEquals(new Object[] { "created" }, projection.extract(content));
+    assertNull(projection.extract("<html></html>"));
+    assertNull(projection.extract("{\"body\": [1, }}"));
+    assertEquals(3, metrics.of(Operation.DESERIALIZE, Object[].class).calls());
+    assertEquals(2, metrics.of(Operation.DESERIALIZE, Object[].class).failures());
+    assertEquals(1L, metrics.of(Operation.DESERIALIZE, Object[].class).failuresByError().get(Prechecks.Rejected.class));
+  }
+
+  @Test
+  void stop() throws IOException {
+    final Projection<Object[]> projection = Jsonifier.projection("/header/eventType", "/header/id");
+    assertArrayEquals(new Object[] { "created", 1 }, projection.extractStrictly(stream("{\"header\": {\"eventType\": \"created\", \"id\": 1}, \"body\": <html>")));
+    final InputStream remains = stream("{\"header\": {\"id\": 1, \"eventType\": \"created\"}, \"body\": [" + "0, ".repeat(100_000) + "0]}");
+    assertArrayEquals(new Object[] { "created", 1 }, projection.extractStrictly(remains));
+    assertTrue(remains.available() > 0);
+  }
+
+  @Test
+  void duplicated() throws IOException {
+    assertArrayEquals(new Object[] { 2, 3 }, Jsonifier.projection("/a", "/b").extractStrictly("{\"a\":1,\"a\":2,\"b\":3}"));
+    assertArrayEquals(new Object[] { 2, 2, 3 }, Jsonifier.projection("/a", "/a", "/b").extractStrictly("{\"a\":1,\"a\":2,\"b\":3}"));
+    assertArrayEquals(new Object[] { 2, 3 }, Jsonifier.projection("/a/0", "/b").extractStrictly("{\"a\":[1],\"a\":[2],\"b\":3}"));
+    assertArrayEquals(new Object[] { 1, 3 }, Jsonifier.projection("/a", "/b").extractStrictly("{\"a\":1,\"b\":3,\"a\":2}"));
+    assertArrayEquals(new Object[] { 2 }, Jsonifier.projection("/a").extractStrictly("{\"a\":2,\"a\":1}"));
+  }
+
+  @Test
+  void shared() {
+    final Projection<Object[]> projection = Jsonifier.projection("/header/id", "/body/items/1");
+    final List<String> contents = IntStream.range(0, 1000).mapToObj((i) -> String.format("{\"body\": {\"items\": [%d, \"%d\"]}, \"header\": {\"id\": %d}}", i, i, i)).collect(Collectors.toList());
+    assertEquals(IntStream.range(0, 1000).mapToObj((i) -> List.of(i, Integer.toString(i))).collect(Collectors.toList()), contents.parallelStream().map(projection::extract).map(List::of).collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import jp.furplag.data.json.Result.Reason;
+
+public class ResultTest {
+
+  @Test
+  void test() {
+    final Result<Map<String, Integer>> result = Jsonifier.tryDeserialize("{\"a\": 1}", new TypeReference<Map<String, Integer>>() {});
+    assertTrue(result.isSucceeded());
+    assertEquals(Map.of("a", 1), result.value());
+    assertEquals(Map.of("a", 1), result.orElse(Map.of()));
+    assertNull(result.reason());
+    assertNull(result.message());
+    assertEquals("Result[{a=1}]", result.toString());
+
+    final Result<Object> nothing = Jsonifier.tryDeserialize("null", Object.class);
+    assertTrue(nothing.isSucceeded());
+    assertNull(nothing.orElse("failed"));
+  }
+
+  @Test
+  void rejected() {
+    assertEquals(Reason.UNKNOWN_TYPE, Jsonifier.tryDeserialize("{}", "not a type").reason());
+    assertEquals(Reason.EMPTY, Jsonifier.tryDeserialize(null, Map.class).reason());
+    assertEquals(Reason.EMPTY, Jsonifier.tryDeserialize(" ", Map.class).reason());
+    assertEquals(Reason.NOT_JSON, Jsonifier.tryDeserialize("<html></html>", Map.class).reason());
+    assertEquals(Reason.TRUNCATED, Jsonifier.tryDeserialize("{\"a\": [1, 2]", Map.class).reason());
+    assertSame(Jsonifier.tryDeserialize("<html></html>", Map.class), Jsonifier.tryDeserialize("Internal Server Error", List.class));
+
+    final Result<Map<?, ?>> result = Jsonifier.tryDeserialize("<html></html>", Map.class);
+    assertFalse(result.isSucceeded());
+    assertNull(result.value());
+    assertEquals(Map.of(), result.orElse(Map.of()));
+    assertNull(result.message());
+    assertEquals("Result[NOT_JSON]", result.toString());
+  }
+
+  @Test
+  void failed() {
+    assertEquals(Reason.TRUNCATED, Jsonifier.tryDeserialize("{\"a\": {\"b\": 1}", Map.class).reason());
+    assertEquals(Reason.MALFORMED, Jsonifier.tryDeserialize("{\"a\": }", Map.class).reason());
+    assertEquals(Reason.MISMATCHED, Jsonifier.tryDeserialize("[1, 2]", Map.class).reason());
+    assertEquals(Reason.MISMATCHED, Jsonifier.tryDeserialize("{\"a\": \"b\"}", new TypeReference<Map<String, Integer>>() {}).reason());
+    assertTrue(Jsonifier.tryDeserialize("{\"a\": }", Map.class).message().startsWith("Unexpected character"));
+    assertEquals(Reason.FAILURE, Result.failed(new IllegalStateException("failure")).reason());
+    assertEquals("Result[FAILURE: failure]", Result.failed(new IllegalStateException("failure")).toString());
+    assertEquals(Reason.FAILURE, Result.rejected(null).reason());
+  }
+
+  @Test
+  void bytes() {
+    final byte[] content = "<html>{\"a\": 1}".getBytes(StandardCharsets.UTF_8);
+    assertEquals(Map.of("a", 1), Jsonifier.tryDeserializeBytes(content, 6, content.length - 6, Map.class).value());
+    assertEquals(Reason.NOT_JSON, Jsonifier.tryDeserializeBytes(content, 0, content.length, Map.class).reason());
+    assertEquals(Reason.TRUNCATED, Jsonifier.tryDeserializeBytes(content, 6, content.length - 7, Map.class).reason());
+    assertEquals(Reason.UNKNOWN_TYPE, Jsonifier.tryDeserializeBytes(content, 6, content.length - 6, null).reason());
+    assertEquals(Reason.MISMATCHED, Jsonifier.tryDeserializeBytes(content, 6, content.length - 6, List.class).reason());
+  }
+}
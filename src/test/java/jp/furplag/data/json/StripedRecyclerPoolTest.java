@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+public class StripedRecyclerPoolTest {
+
+  @Test
+  void test() {
+    assertEquals(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 4, new StripedRecyclerPool().capacity());
+    assertEquals(8, new StripedRecyclerPool(3, 2).capacity());
+    assertEquals(1, new StripedRecyclerPool(0, 0).capacity());
+
+    final StripedRecyclerPool pool = new StripedRecyclerPool(1, 2);
+    final BufferRecycler recycler = pool.acquirePooled();
+    assertEquals(0, pool.size());
+    pool.releasePooled(recycler);
+    assertEquals(1, pool.size());
+    assertSame(recycler, pool.acquirePooled());
+    assertEquals(0, pool.size());
+
+    final List<BufferRecycler> recyclers = IntStream.range(0, 3).mapToObj((i) -> pool.acquirePooled()).collect(Collectors.toList());
+    recyclers.forEach(pool::releasePooled);
+    assertEquals(2, pool.size());
+    assertNotSame(pool.acquirePooled(), recycler);
+  }
+
+  @Test
+  void profile() throws Exception {
+    final StripedRecyclerPool pool = new StripedRecyclerPool(1, 1);
+    final Profile profile = Profile.lenient().recyclerPool(pool).build();
+    final Map<String, Object> map = Map.of("a", List.of(1, 2, 3), "b", "b".repeat(10_000));
+    final String json = Jsonifier.serialize(map);
+    assertEquals(json, profile.serialize(map));
+    assertEquals(1, pool.size());
+    assertEquals(map, profile.deserialize(json, Map.class));
+    assertEquals(1, pool.size());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    final List<Future<?>> futures = IntStream.range(0, 100).mapToObj((i) -> executor.submit(() -> assertEquals(map, profile.deserialize(profile.serialize(map), Map.class)))).collect(Collectors.toList());
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  void serializable() throws Exception {
+    final StripedRecyclerPool pool = new StripedRecyclerPool(2, 2);
+    pool.releasePooled(new BufferRecycler());
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+      stream.writeObject(pool);
+    }
+    try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final StripedRecyclerPool deserialized = (StripedRecyclerPool) stream.readObject();
+      assertEquals(pool.capacity(), deserialized.capacity());
+      assertEquals(0, deserialized.size());
+    }
+  }
+}
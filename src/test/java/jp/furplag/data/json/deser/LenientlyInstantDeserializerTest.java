@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.OptBoolean;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public class LenientlyInstantDeserializerTest {
+
+  // @formatter:off
+  private static final ObjectMapper objectMapper = new ObjectMapper().registerModules(new JavaTimeModule()
+    .addDeserializer(Instant.class, LenientlyInstantDeserializer.instant)
+    .addDeserializer(OffsetDateTime.class, LenientlyInstantDeserializer.offsetDateTime)
+    .addDeserializer(ZonedDateTime.class, LenientlyInstantDeserializer.zonedDateTime)
+  );
+  // @formatter:on
+
+  public static class Formatted {
+    @JsonFormat(lenient = OptBoolean.TRUE)
+    public Instant instant;
+    @JsonFormat(lenient = OptBoolean.TRUE, without = JsonFormat.Feature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+    public OffsetDateTime offsetDateTime;
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    public ZonedDateTime zonedDateTime;
+  }
+
+  @Test
+  void test() throws JsonProcessingException, IOException {
+    final LocalDateTime local = LocalDateTime.of(2017, 1, 1, 12, 34);
+    for (Class<?> type : new Class<?>[] { Instant.class, OffsetDateTime.class, ZonedDateTime.class }) {
+      assertNull(objectMapper.readValue("\"\"", type));
+      assertNull(objectMapper.readValue("\"南無阿弥陀仏\"", type));
+      assertNull(objectMapper.readValue("\"2017/01/01 12:34 +25:00\"", type));
+      assertNull(objectMapper.readValue("\"2017/01/01 12:34[Nowhere/Zone]\"", type));
+    }
+    assertEquals(local.toInstant(ZoneOffset.UTC), objectMapper.readValue("\"2017/01/01 12:34\"", Instant.class));
+    assertEquals(local.toInstant(ZoneOffset.UTC), objectMapper.readValue("\"2017/01/01 12:34Z\"", Instant.class));
+    assertEquals(local.toInstant(ZoneOffset.ofHours(9)), objectMapper.readValue("\"2017/01/01 12:34 +09:00\"", Instant.class));
+    assertEquals(local.toInstant(ZoneOffset.ofHours(9)), objectMapper.readValue("\"2017-01-01T12:34+9\"", Instant.class));
+    assertEquals(local.toInstant(ZoneOffset.ofHours(-5)), objectMapper.readValue("\"2017/01/01 12:34-0500\"", Instant.class));
+    assertEquals(local.toInstant(ZoneOffset.ofHours(-5)), objectMapper.readValue("\"2017/01/01 12:34 -05\"", Instant.class));
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")).toInstant(), objectMapper.readValue("\"2017/01/01 12:34[Asia/Tokyo]\"", Instant.class));
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")).toInstant(), objectMapper.readValue("\"2017/01/01 12:34 +09:00[Asia/Tokyo]\"", Instant.class));
+    assertEquals(local.withHour(0).withMinute(0).toInstant(ZoneOffset.UTC), objectMapper.readValue("\"2017/01/01\"", Instant.class));
+    assertEquals(Instant.ofEpochSecond(1483228800), objectMapper.readValue("\"1483228800\"", Instant.class));
+    assertEquals(Instant.ofEpochSecond(1483228800), objectMapper.readValue("1483228800", Instant.class));
+
+    assertEquals(local.atOffset(ZoneOffset.ofHours(9)).withOffsetSameInstant(ZoneOffset.UTC), objectMapper.readValue("\"2017/01/01 12:34 +09:00\"", OffsetDateTime.class));
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")).withZoneSameInstant(ZoneId.of("UTC")), objectMapper.readValue("\"2017/01/01 12:34[Asia/Tokyo]\"", ZonedDateTime.class));
+  }
+
+  @Test
+  void timeZone() throws JsonProcessingException, IOException {
+    final LocalDateTime local = LocalDateTime.of(2017, 1, 1, 12, 34);
+    final ObjectMapper tokyo = objectMapper.copy().setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")).toInstant(), tokyo.readValue("\"2017/01/01 12:34\"", Instant.class));
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")).toOffsetDateTime(), tokyo.readValue("\"2017/01/01 12:34\"", OffsetDateTime.class));
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")), tokyo.readValue("\"2017/01/01 12:34 +09:00\"", ZonedDateTime.class));
+
+    final ObjectMapper unadjusted = objectMapper.copy().disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    assertEquals(local.atOffset(ZoneOffset.ofHours(9)), unadjusted.readValue("\"2017/01/01 12:34 +09:00\"", OffsetDateTime.class));
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")), unadjusted.readValue("\"2017/01/01 12:34[Asia/Tokyo]\"", ZonedDateTime.class));
+  }
+
+  @Test
+  void testNonCustomized() throws JsonProcessingException, IOException {
+    final ObjectMapper stock = new ObjectMapper().registerModules(new JavaTimeModule());
+    for (Class<?> type : new Class<?>[] { Instant.class, OffsetDateTime.class, ZonedDateTime.class }) {
+      for (String text : new String[] { "\"2017-01-01T12:34:56Z\"", "\"2017-01-01T12:34:56.789+09:00\"", "\"2017-01-01T12:34:56+09:00[Asia/Tokyo]\"", "\"1483228800\"", "\"1483228800.123\"", "1483228800", "1483228800.123", "null" }) {
+        if (!ZonedDateTime.class.equals(type) && text.contains("[")) {
+          continue;
+        }
+        assertEquals(stock.readValue(text, type), objectMapper.readValue(text, type), text);
+      }
+    }
+  }
+
+  @Test
+  void contextual() throws JsonProcessingException, IOException {
+    final LocalDateTime local = LocalDateTime.of(2017, 1, 1, 12, 34);
+    final Formatted formatted = objectMapper.readValue("{\"instant\": \"2017/01/01 12:34 +09:00\", \"offsetDateTime\": \"2017/01/01 12:34 +09:00\", \"zonedDateTime\": \"2017/01/01 12:34[Asia/Tokyo]\"}", Formatted.class);
+    assertEquals(local.toInstant(ZoneOffset.ofHours(9)), formatted.instant);
+    assertEquals(local.atOffset(ZoneOffset.ofHours(9)), formatted.offsetDateTime);
+    assertEquals(local.atZone(ZoneId.of("Asia/Tokyo")).withZoneSameInstant(ZoneId.of("UTC")), formatted.zonedDateTime);
+    assertEquals(Instant.ofEpochSecond(1483228800), objectMapper.readValue("{\"instant\": \"1483228800\"}", Formatted.class).instant);
+  }
+}
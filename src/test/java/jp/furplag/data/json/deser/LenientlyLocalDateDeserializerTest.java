@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.IOException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public class LenientlyLocalDateDeserializerTest {
+
+  @Test
+  void test() throws JsonProcessingException, IOException {
+    final ObjectMapper objectMapper = new ObjectMapper().registerModules(new JavaTimeModule().addDeserializer(LocalDate.class, new LenientlyLocalDateDeserializer()));
+
+    assertNull(objectMapper.readValue("\"\"", LocalDate.class));
+    assertNull(objectMapper.readValue("\"南無阿弥陀仏\"", LocalDate.class));
+    assertNull(objectMapper.readValue("\"1234\"", LocalDate.class));
+
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017-01-01\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017-01-01T12:34:56Z\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017/01/01\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017/1/1\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"20170101\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017/01/01 12:34\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017/01/01 12:34 +09:00\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017/01/01 01:23:45 +09:00\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017/01/01 12:34[Asia/Tokyo]\"", LocalDate.class));
+    assertEquals(LocalDate.of(2017, 1, 1), objectMapper.readValue("\"2017年1月1日 12時34分 JST\"", LocalDate.class));
+    assertEquals(LocalDate.ofEpochDay(17167), objectMapper.readValue("17167", LocalDate.class));
+  }
+
+  @Test
+  void testNonCustomized() throws JsonProcessingException, IOException {
+    final ObjectMapper objectMapper = new ObjectMapper().registerModules(new JavaTimeModule());
+    final ObjectMapper lenient = new ObjectMapper().registerModules(new JavaTimeModule().addDeserializer(LocalDate.class, new LenientlyLocalDateDeserializer()));
+    for (String text : new String[] { "\"2017-01-01\"", "\"2017-01-01T12:34:56Z\"", "\"+12017-12-31\"", "17167", "[2017,1,1]", "null" }) {
+      assertEquals(objectMapper.readValue(text, LocalDate.class), lenient.readValue(text, LocalDate.class), text);
+    }
+  }
+}
@@ -67,6 +67,20 @@ public class LenientlyLocalDateTimeDeserializerTest {
     assertEquals(LocalDateTime.of(2017, 1, 1, 12, 34, 56, 789 * 1000000), objectMapper.readValue("\"2017/01/01 12:34:56.789\"", LocalDateTime.class));
   }
 
+  @Test
+  void cache() throws JsonProcessingException, IOException {
+    final LenientlyLocalDateTimeDeserializer deserializer = new LenientlyLocalDateTimeDeserializer(16);
+    final ObjectMapper objectMapper = new ObjectMapper().registerModules(new JavaTimeModule().addDeserializer(LocalDateTime.class, deserializer));
+    final ObjectMapper uncached = new ObjectMapper().registerModules(new JavaTimeModule().addDeserializer(LocalDateTime.class, new LenientlyLocalDateTimeDeserializer()));
+    for (String text : new String[] { "\"2017/01/01 12:34\"", "\"2017-01-01T12:34:56.789\"", "\"2017/01/01 12:34\"", "\"南無阿弥陀仏\"", "\"南無阿弥陀仏\"", "\"\"", "\" \"", "20170101", "20170101" }) {
+      assertEquals(uncached.readValue(text, LocalDateTime.class), objectMapper.readValue(text, LocalDateTime.class), text);
+    }
+    assertEquals(2, deserializer.cacheHits());
+    assertEquals(3, deserializer.cacheMisses());
+    assertEquals(0, new LenientlyLocalDateTimeDeserializer().cacheHits());
+    assertEquals(0, new LenientlyLocalDateTimeDeserializer().cacheMisses());
+  }
+
   @Test
   void testNonCustomized() throws JsonProcessingException, IOException {
     try {
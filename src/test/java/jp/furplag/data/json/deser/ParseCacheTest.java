@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class ParseCacheTest {
+
+  @Test
+  void capacity() {
+    assertEquals(4, new ParseCache<>(-1).capacity());
+    assertEquals(4, new ParseCache<>(4).capacity());
+    assertEquals(8, new ParseCache<>(5).capacity());
+    assertEquals(1024, new ParseCache<>(1000).capacity());
+    assertEquals(1 << 20, new ParseCache<>(Integer.MAX_VALUE).capacity());
+  }
+
+  @Test
+  void test() {
+    final ParseCache<String> cache = new ParseCache<>(4);
+    final char[] chars = "_2017/01/01_".toCharArray();
+    assertNull(cache.get(chars, 1, 10));
+    cache.put(chars, 1, 10, "cached");
+    assertEquals("cached", cache.get("2017/01/01".toCharArray(), 0, 10).value());
+    assertNull(cache.get(chars, 0, 10));
+    cache.put("nothing".toCharArray(), 0, 7, null);
+    assertNotNull(cache.get("nothing".toCharArray(), 0, 7));
+    assertNull(cache.get("nothing".toCharArray(), 0, 7).value());
+    assertEquals(3, cache.hits());
+    assertEquals(2, cache.misses());
+
+    IntStream.range(0, 100).mapToObj(Integer::toString).forEach((key) -> cache.put(key.toCharArray(), 0, key.length(), key));
+    assertEquals(4, IntStream.range(0, 100).mapToObj(Integer::toString).filter((key) -> cache.get(key.toCharArray(), 0, key.length()) != null).count());
+  }
+
+  @Test
+  void secondChance() {
+    final ParseCache<String> cache = new ParseCache<>(4);
+    for (String key : new String[] { "a", "b", "c", "d" }) {
+      cache.put(key.toCharArray(), 0, 1, key);
+    }
+    assertNotNull(cache.get("a".toCharArray(), 0, 1));
+    cache.put("e".toCharArray(), 0, 1, "e");
+    assertNotNull(cache.get("a".toCharArray(), 0, 1));
+    assertNull(cache.get("b".toCharArray(), 0, 1));
+    assertNotNull(cache.get("e".toCharArray(), 0, 1));
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.deser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class TemporalScannerTest {
+
+  @Test
+  void scan() {
+    for (String text : new String[] { "2017/01/01 12:34", "2017-01-01", "2017/1/1", "20170101", "2017/01/01 12:34:56.789", "2017.01.01 9", "2017/13/45 99:99:99.9999", "0000/00/00" }) {
+      assertNotEquals(TemporalScanner.undetermined, TemporalScanner.scan(text.toCharArray(), 0, text.length()), text);
+    }
+    final Random random = new Random(0);
+    final String alphabet = "01234567890123456789--//::.. T,x+";
+    for (int i = 0; i < 100_000; i++) {
+      final char[] chars = new char[1 + random.nextInt(24)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+      }
+      final String text = new String(chars);
+      final LocalDateTime scanned = TemporalScanner.scan(chars, 0, chars.length);
+      assertEquals(TemporalScanner.leniently(text), scanned == TemporalScanner.undetermined ? TemporalScanner.leniently(text) : scanned, text);
+      assertEquals(TemporalScanner.leniently(text), TemporalScanner.leniently(chars, 0, chars.length), text);
+    }
+  }
+
+  @Test
+  void isNumeric() {
+    for (String text : new String[] { "1483228800", "1483228800.123", "-17", " 1483228800 " }) {
+      assertTrue(TemporalScanner.isNumeric(text.toCharArray(), 0, text.length()), text);
+    }
+    for (String text : new String[] { "2017/01/01", "2017-01-01T00:00", "1483228800Z" }) {
+      assertFalse(TemporalScanner.isNumeric(text.toCharArray(), 0, text.length()), text);
+    }
+  }
+
+  @Test
+  void zoneStart() {
+    for (String[] text : new String[][] {
+      { "2017/01/01 12:34", "2017/01/01 12:34" }
+    , { "2017/01/01 12:34Z", "2017/01/01 12:34" }
+    , { "2017/01/01 12:34 z", "2017/01/01 12:34 " }
+    , { "2017/01/01 12:34 +09:00", "2017/01/01 12:34 " }
+    , { "2017/01/01 12:34:56-0500", "2017/01/01 12:34:56" }
+    , { "2017/01/01 12:34:56 -05", "2017/01/01 12:34:56 " }
+    , { "2017-01-01T12:34:56+9", "2017-01-01T12:34:56" }
+    , { "2017/01/01 12:34[Asia/Tokyo]", "2017/01/01 12:34" }
+    , { "2017/01/01 12:34 +09:00[Asia/Tokyo]", "2017/01/01 12:34 " }
+    , { "2017-01-01 12-30", "2017-01-01 12-30" }
+    , { "2017-01-01", "2017-01-01" }
+    , { "2017/01/01+09:00", "2017/01/01+09:00" }
+    }) {
+      assertEquals(text[1], text[0].substring(0, TemporalScanner.zoneStart(text[0].toCharArray(), 0, text[0].length())), text[0]);
+    }
+  }
+
+  @Test
+  void zone() {
+    for (Object[] expect : new Object[][] {
+      { "2017/01/01 12:34", null }
+    , { "2017/01/01 12:34Z", ZoneOffset.UTC }
+    , { "2017/01/01 12:34 +09:00", ZoneOffset.ofHours(9) }
+    , { "2017/01/01 12:34:56-0500", ZoneOffset.ofHours(-5) }
+    , { "2017-01-01T12:34:56+9", ZoneOffset.ofHours(9) }
+    , { "2017/01/01 12:34 +09:30", ZoneOffset.ofHoursMinutes(9, 30) }
+    , { "2017/01/01 12:34[Asia/Tokyo]", ZoneId.of("Asia/Tokyo") }
+    , { "2017/01/01 12:34 +09:00[Asia/Tokyo]", ZoneId.of("Asia/Tokyo") }
+    }) {
+      final char[] chars = ((String) expect[0]).toCharArray();
+      assertEquals(expect[1], TemporalScanner.zone(chars, TemporalScanner.zoneStart(chars, 0, chars.length), chars.length), (String) expect[0]);
+    }
+    final char[] invalid = "2017/01/01 12:34 +25:00".toCharArray();
+    assertThrows(DateTimeException.class, () -> TemporalScanner.zone(invalid, TemporalScanner.zoneStart(invalid, 0, invalid.length), invalid.length));
+    final char[] unknown = "2017/01/01 12:34[Nowhere/Zone]".toCharArray();
+    assertThrows(DateTimeException.class, () -> TemporalScanner.zone(unknown, TemporalScanner.zoneStart(unknown, 0, unknown.length), unknown.length));
+    assertNull(TemporalScanner.zone(new char[0], 0, 0));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import jp.furplag.data.json.Jsonifier;
+import jp.furplag.data.json.metrics.Listener.Operation;
+
+public class MetricsTest {
+
+  public static class Provided {
+    public long id;
+  }
+
+  @Test
+  void histogram() {
+    final Histogram histogram = new Histogram();
+    assertEquals(0, histogram.count());
+    assertEquals(0, histogram.percentile(50));
+    assertEquals(0, histogram.mean());
+    IntStream.rangeClosed(1, 100).forEach(histogram::record);
+    assertEquals(100, histogram.count());
+    assertEquals(100, histogram.max());
+    assertEquals(50.5, histogram.mean());
+    assertEquals(1, histogram.percentile(0));
+    assertEquals(31, histogram.percentile(31));
+    assertTrue(Math.abs(histogram.percentile(50) - 50) <= 50 / 16, "50");
+    assertTrue(Math.abs(histogram.percentile(99) - 99) <= 99 / 16, "99");
+    assertEquals(100, histogram.percentile(100));
+    histogram.record(-1);
+    assertEquals(0, histogram.percentile(0));
+    histogram.record(Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, histogram.percentile(100));
+  }
+
+  @Test
+  void buckets() {
+    for (long value : new long[] { 0, 1, 15, 16, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE }) {
+      final int index = Histogram.index(value);
+      assertTrue(Histogram.highest(index) >= value, String.valueOf(value));
+      assertTrue(index == 0 || Histogram.highest(index - 1) < value, String.valueOf(value));
+      assertTrue(Histogram.highest(index) - value <= value / 16, String.valueOf(value));
+    }
+    assertEquals(Long.MAX_VALUE, Histogram.highest(Histogram.index(Long.MAX_VALUE)));
+  }
+
+  @Test
+  void metrics() {
+    final Metrics metrics = new Metrics();
+    assertTrue(metrics.of(Operation.SERIALIZE).isEmpty());
+    assertNull(metrics.of(Operation.SERIALIZE, String.class));
+    assertNull(metrics.of(null, String.class));
+    assertNull(metrics.of(Operation.SERIALIZE, null));
+
+    metrics.completed(Operation.SERIALIZE, String.class, 100, 10);
+    metrics.completed(Operation.SERIALIZE, String.class, 200, -1);
+    metrics.failed(Operation.SERIALIZE, String.class, 300, new IOException());
+    metrics.failed(Operation.SERIALIZE, String.class, 400, new IllegalStateException());
+    metrics.failed(Operation.SERIALIZE, String.class, 500, new IOException());
+    metrics.failed(Operation.DESERIALIZE, null, 500, null);
+
+    final Metrics.Stats stats = metrics.of(Operation.SERIALIZE, String.class);
+    assertEquals(5, stats.calls());
+    assertEquals(10, stats.size());
+    assertEquals(3, stats.failures());
+    assertEquals(Map.of(IOException.class, 2L, IllegalStateException.class, 1L), stats.failuresByError());
+    assertEquals(5, stats.latency().count());
+    assertEquals(500, stats.latency().max());
+    assertEquals(Map.of(String.class, stats), metrics.of(Operation.SERIALIZE));
+    assertThrows(UnsupportedOperationException.class, () -> metrics.of(Operation.SERIALIZE).clear());
+    assertEquals(Map.of(Throwable.class, 1L), metrics.of(Operation.DESERIALIZE, Object.class).failuresByError());
+  }
+
+  @Test
+  void concurrently() {
+    final Metrics metrics = new Metrics();
+    IntStream.range(0, 10_000).parallel().forEach((i) -> metrics.completed(Operation.DESERIALIZE, i % 2 == 0 ? String.class : Integer.class, i, 1));
+    assertEquals(5_000, metrics.of(Operation.DESERIALIZE, String.class).calls());
+    assertEquals(5_000, metrics.of(Operation.DESERIALIZE, Integer.class).size());
+    assertEquals(10_000, metrics.of(Operation.DESERIALIZE).values().stream().mapToLong((stats) -> stats.latency().count()).sum());
+  }
+
+  @Test
+  void provided() {
+    assertTrue(Jsonifier.listener() instanceof Metrics);
+    final Metrics metrics = (Metrics) Jsonifier.listener();
+    assertNull(metrics.of(Operation.DESERIALIZE, Provided.class));
+    assertEquals(1L, Jsonifier.<Provided>deserialize("{\"id\": 1}", Provided.class).id);
+    assertNull(Jsonifier.deserialize("{\"id\": \"one\"}", Provided.class));
+    assertEquals(2, metrics.of(Operation.DESERIALIZE, Provided.class).calls());
+    assertEquals(1, metrics.of(Operation.DESERIALIZE, Provided.class).failures());
+    assertTrue(Jsonifier.serialize(new Provided()).contains("\"id\""));
+    assertEquals(1, metrics.of(Operation.SERIALIZE, Provided.class).calls());
+  }
+}
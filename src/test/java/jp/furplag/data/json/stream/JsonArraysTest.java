@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+
+import jp.furplag.data.json.Jsonifier;
+
+public class JsonArraysTest {
+
+  private static InputStream stream(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void elements() {
+    assertEquals(Arrays.asList(1, 2, 3), Jsonifier.elements(stream("[1, 2, 3, ]"), Integer.class).collect(Collectors.toList()));
+    assertEquals(Arrays.asList(1, null, 3), Jsonifier.elements(stream("[1, {one: [1, {}]}, 3]"), Integer.class).collect(Collectors.toList()));
+    assertEquals(Arrays.asList(1, 2), Jsonifier.elements(stream("[1, 2, {one: ]"), Integer.class).collect(Collectors.toList()));
+    assertEquals(Arrays.asList(Map.of("id", 1), Map.of("id", 2)), Jsonifier.elements(stream("{meta: {items: [0]}, 'data': {skip: [[1], {}], items: [{id: 1}, {id: 2}]}}"), "/data/items", Map.class).collect(Collectors.toList()));
+    assertEquals(Arrays.asList("a", "b"), Jsonifier.elements(stream("{a: [0, ['a', 'b']]}"), "/a/1", String.class).collect(Collectors.toList()));
+    assertEquals(0, Jsonifier.elements(stream("{a: [0]}"), "/b", Integer.class).count());
+    assertEquals(0, Jsonifier.elements(stream("{a: [0]}"), "/a/0", Integer.class).count());
+    assertEquals(0, Jsonifier.elements(stream("{a: [0]}"), "a", Integer.class).count());
+    assertEquals(0, Jsonifier.elements((InputStream) null, Integer.class).count());
+    assertEquals(0, Jsonifier.elements(stream("[0]"), (Class<?>) null).count());
+
+    final Iterator<Integer> iterator = Jsonifier.<Integer>elements(stream("[1, 2]"), Integer.class).iterator();
+    assertEquals(1, iterator.next());
+    assertEquals(2, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void elementsStrictly() {
+    assertThrows(UncheckedIOException.class, () -> Jsonifier.elementsStrictly(stream("[1, {}]"), null, Integer.class).count());
+    assertThrows(UncheckedIOException.class, () -> Jsonifier.elementsStrictly(stream("[1, 2"), null, Integer.class).count());
+    assertThrows(UncheckedIOException.class, () -> Jsonifier.elementsStrictly(stream("{a: [0]}"), "/b", Integer.class).count());
+    assertThrows(IllegalArgumentException.class, () -> Jsonifier.elementsStrictly(stream("{a: [0]}"), "a", Integer.class));
+  }
+
+  @Test
+  void file(@TempDir Path directory) throws IOException {
+    final Path file = Files.writeString(directory.resolve("items.json"), "{\"items\": [{\"id\": 1}, {\"id\": 2}]}");
+    try (Stream<Map<String, Object>> elements = Jsonifier.elements(file, "/items", Map.class)) {
+      assertEquals(List.of(Map.of("id", 1), Map.of("id", 2)), elements.collect(Collectors.toList()));
+    }
+    assertEquals(0, Jsonifier.elements(directory.resolve("nothing.json"), Map.class).count());
+    assertThrows(IOException.class, () -> Jsonifier.elementsStrictly(directory.resolve("nothing.json"), null, Map.class));
+  }
+
+  @Test
+  void seek() throws IOException {
+    try (JsonParser parser = new JsonFactory().createParser("{\"a\": {\"b\": [0, {\"c\": true}]}}")) {
+      assertTrue(JsonPointers.seek(parser, JsonPointer.compile("/a/b/1/c")));
+      assertTrue(parser.getBooleanValue());
+    }
+    try (JsonParser parser = new JsonFactory().createParser("{\"a\": {\"b\": [0, {\"c\": true}]}}")) {
+      assertFalse(JsonPointers.seek(parser, JsonPointer.compile("/a/b/2")));
+    }
+    try (JsonParser parser = new JsonFactory().createParser("[0]")) {
+      assertTrue(JsonPointers.seek(parser, null));
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import jp.furplag.data.json.Jsonifier;
+
+public class JsonBatchesTest {
+
+  public static class Loop {
+    public Loop getSelf() {
+      return this;
+    }
+  }
+
+  @Test
+  void failure() throws IOException {
+    final List<Object> sources = IntStream.range(0, 3000).mapToObj((i) -> i == 1234 ? new Loop() : Map.of("index", i)).collect(Collectors.toList());
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    assertEquals(3000, Jsonifier.serializeAll(sources, bytes, Framing.ARRAY));
+    final List<Map<String, Object>> written = Jsonifier.deserialize(bytes.toString(StandardCharsets.UTF_8), List.class);
+    assertEquals(3000, written.size());
+    assertEquals(Map.of("index", 1233), written.get(1233));
+    assertTrue(written.get(1234).containsKey("jsonifier.serializationFailure"));
+    assertEquals(Map.of("index", 1235), written.get(1235));
+  }
+
+  @Test
+  void thrown() {
+    final List<Integer> sources = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final IOException error = assertThrows(IOException.class, () -> JsonBatches.write(sources, (source) -> {
+      if (((Integer) source) == 5000) {
+        throw new IllegalStateException("failed");
+      }
+
+      return source.toString().getBytes(StandardCharsets.UTF_8);
+    }, null, bytes, Framing.ARRAY));
+    assertEquals(IllegalStateException.class, error.getCause().getClass());
+    assertTrue(error.getMessage().contains("of 10000 objects already written"));
+    final String written = bytes.toString(StandardCharsets.UTF_8);
+    assertTrue(written.startsWith("[0,1,2,"));
+    assertFalse(written.endsWith("]"));
+    assertFalse(written.contains(",5000"));
+  }
+
+  @Test
+  void window() throws Exception {
+    final List<Integer> sources = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+    final AtomicInteger submitted = new AtomicInteger();
+    final Executor executor = (task) -> {
+      submitted.incrementAndGet();
+      ForkJoinPool.commonPool().execute(task);
+    };
+    final CountDownLatch latch = new CountDownLatch(1);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final CompletableFuture<Long> written = CompletableFuture.supplyAsync(() -> {
+      try {
+        return JsonBatches.write(sources, (source) -> {
+          if (((Integer) source) == 0) {
+            try {
+              latch.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+
+          return source.toString().getBytes(StandardCharsets.UTF_8);
+        }, executor, bytes, Framing.LINES);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }, (task) -> new Thread(task).start());
+    Thread.sleep(200);
+    assertTrue(submitted.get() <= Runtime.getRuntime().availableProcessors() * 2, String.valueOf(submitted.get()));
+    latch.countDown();
+    assertEquals(100_000L, (long) written.get(10, TimeUnit.SECONDS));
+    assertEquals(IntStream.range(0, 100_000).mapToObj((i) -> i + "\n").collect(Collectors.joining()), bytes.toString(StandardCharsets.UTF_8));
+  }
+}
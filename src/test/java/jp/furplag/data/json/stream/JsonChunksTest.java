@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import jp.furplag.data.json.Jsonifier;
+import jp.furplag.data.json.Profile;
+
+public class JsonChunksTest {
+
+  public static class Entity {
+    public BigDecimal price;
+    public LocalDateTime created;
+  }
+
+  public static class Loop {
+    public Loop getSelf() {
+      return this;
+    }
+  }
+
+  private static <T> T feed(final String content, final Object valueType, final int chunkSize) throws Exception {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    final ChunkedReader<T> reader = Jsonifier.deserializeAsync(valueType);
+    final ByteBuffer chunk = ByteBuffer.allocate(chunkSize);
+    for (int i = 0; i < bytes.length && reader.feed(chunk.clear().put(bytes, i, Math.min(chunkSize, bytes.length - i)).flip()); i += chunkSize) {}
+    reader.end();
+
+    return reader.result().get(1, TimeUnit.SECONDS);
+  }
+
+  private static Flow.Publisher<ByteBuffer> chunks(final String content, final int chunkSize) {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    return (subscriber) -> {
+      final SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>();
+      publisher.subscribe(subscriber);
+      IntStream.iterate(0, (i) -> i < bytes.length, (i) -> i + chunkSize).forEach((i) -> publisher.submit(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i))));
+      publisher.close();
+    };
+  }
+
+  private static <T> CompletableFuture<T> split(final Profile profile, final byte[] content, final int offset) {
+    final ChunkedReader<T> reader = profile.deserializeAsync(Object.class);
+    reader.feed(ByteBuffer.wrap(content, 0, offset));
+    reader.feed(ByteBuffer.wrap(content, offset, content.length - offset));
+    reader.end();
+
+    return reader.result();
+  }
+
+  private static <T> List<T> collect(final Flow.Publisher<T> publisher, final long request) throws Exception {
+    return collect(publisher, request, Collections.synchronizedList(new ArrayList<>()));
+  }
+
+  private static <T> List<T> collect(final Flow.Publisher<T> publisher, final long request, final List<T> values) throws Exception {
+    final CompletableFuture<List<T>> result = new CompletableFuture<>();
+    publisher.subscribe(new Flow.Subscriber<T>() {
+      private Flow.Subscription subscription;
+
+      @Override
+      public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(request);
+      }
+
+      @Override
+      public void onNext(final T value) {
+        values.add(value);
+        subscription.request(request);
+      }
+
+      @Override
+      public void onError(final Throwable error) {
+        result.completeExceptionally(error);
+      }
+
+      @Override
+      public void onComplete() {
+        result.complete(values);
+      }
+    });
+
+    return result.get(10, TimeUnit.SECONDS);
+  }
+
+  private static Flow.Publisher<Object> objects(final Object... objects) {
+    return (subscriber) -> {
+      final SubmissionPublisher<Object> publisher = new SubmissionPublisher<>();
+      publisher.subscribe(subscriber);
+      for (Object object : objects) {
+        publisher.submit(object == null ? "" : object);
+      }
+      publisher.close();
+    };
+  }
+
+  private static String written(final ChunkedWriter writer, final long request, final int chunkSize) throws Exception {
+    final List<ByteBuffer> chunks = collect(writer, request);
+    final ByteBuffer content = ByteBuffer.allocate(chunks.stream().mapToInt(ByteBuffer::remaining).sum());
+    chunks.forEach((chunk) -> {
+      assertTrue(chunk.remaining() <= chunkSize);
+      content.put(chunk);
+      writer.recycle(chunk);
+    });
+
+    return new String(content.array(), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void reader() throws Exception {
+    final String content = "{\"a\": [1, 2.5, true, null, \"日本語\"], \"b\": {\"c\": {\"d\": []}}, \"e\": 12345678901234567890}";
+    final Map<String, Object> expect = Jsonifier.deserialize(content, Map.class);
+    for (int chunkSize : new int[] { 1, 2, 3, 7, 64, content.length() * 3 }) {
+      assertEquals(expect, feed(content, Map.class, chunkSize), String.valueOf(chunkSize));
+    }
+    final Entity entity = feed("{\"price\": 0.1000000000000000000001, \"created\": \"2017/01/01 12:34\"}", Entity.class, 5);
+    assertEquals(new BigDecimal("0.1000000000000000000001"), entity.price);
+    assertEquals(LocalDateTime.of(2017, 1, 1, 12, 34), entity.created);
+    for (String lenient : new String[] { "{/* comment */ \"a\": 1}", "# comment\n{\"a\": 1}", "{'a': 1}", "{a: 1}", "{\"a\": 1, }" }) {
+      assertEquals(Map.of("a", 1), feed(lenient, Map.class, 2), lenient);
+    }
+    assertEquals(List.of(1), feed("[1] [2]", List.class, 1));
+    assertEquals(12, (int) feed("12", Integer.class, 1));
+    assertNull(feed("", Map.class, 1));
+    assertNull(feed(" \n", Map.class, 1));
+    assertNull(Jsonifier.deserializeAsync("not a type").result().get());
+    assertThrows(ExecutionException.class, () -> feed("{\"a\": ", Map.class, 2));
+    assertThrows(ExecutionException.class, () -> feed("<html></html>", Map.class, 2));
+
+    final ChunkedReader<Map<String, Object>> reader = Jsonifier.deserializeAsync(Map.class);
+    assertTrue(reader.feed(ByteBuffer.wrap("{\"a\"".getBytes(StandardCharsets.UTF_8))));
+    assertFalse(reader.result().isDone());
+    assertFalse(reader.feed(ByteBuffer.wrap(": 1}".getBytes(StandardCharsets.UTF_8))));
+    assertEquals(Map.of("a", 1), reader.result().getNow(null));
+    assertFalse(reader.feed(ByteBuffer.wrap("<html>".getBytes(StandardCharsets.UTF_8))));
+    reader.end();
+    assertEquals(Map.of("a", 1), reader.result().getNow(null));
+  }
+
+  @Test
+  void read() throws Exception {
+    final String content = "{\"a\": [1, 2, 3], \"b\": \"日本語\"}";
+    for (int chunkSize : new int[] { 1, 5, 1024 }) {
+      assertEquals(Map.of("a", List.of(1, 2, 3), "b", "日本語"), Jsonifier.deserializeAsync(chunks(content, chunkSize), Map.class).get(10, TimeUnit.SECONDS));
+    }
+    assertNull(Jsonifier.deserializeAsync(null, Map.class).get());
+    assertNull(Jsonifier.deserializeAsync(chunks(content, 1), null).get());
+    assertThrows(ExecutionException.class, () -> Jsonifier.deserializeAsync(chunks("{\"a\": }", 1), Map.class).get(10, TimeUnit.SECONDS));
+    assertThrows(ExecutionException.class, () -> Jsonifier.deserializeAsync((subscriber) -> {
+      final SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>();
+      publisher.subscribe(subscriber);
+      publisher.submit(ByteBuffer.wrap("{".getBytes(StandardCharsets.UTF_8)));
+      publisher.closeExceptionally(new IllegalStateException());
+    }, Map.class).get(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void trailingComma() throws Exception {
+    final Profile strict = Profile.strict().build();
+    final Profile lenient = Profile.lenient().build();
+    for (String content : new String[] { "[1,]", "{\"a\": 1,}", "{\"a\": 1, \n}", "{\"a\": {\"b\": 1,}, \"c\": 2}", "{\"a\": [1,], \"b\": 2}" }) {
+      final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+      for (int i = 0; i <= bytes.length; i++) {
+        final CompletableFuture<Object> result = split(strict, bytes, i);
+        assertTrue(result.isCompletedExceptionally(), content + ", " + i);
+        assertEquals(JsonParseException.class, assertThrows(ExecutionException.class, result::get).getCause().getClass(), content + ", " + i);
+        assertEquals(lenient.<Object>deserialize(content, Object.class), split(lenient, bytes, i).get(), content + ", " + i);
+      }
+    }
+    for (String content : new String[] { "[1, 2]", "{\"a\": 1, \"b\": [1, 2], \"c\": \"3, \"}", "{\"a\": \",\"}" }) {
+      final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+      for (int i = 0; i <= bytes.length; i++) {
+        assertEquals(strict.<Object>deserialize(content, Object.class), split(strict, bytes, i).get(), content + ", " + i);
+      }
+    }
+  }
+
+  @Test
+  void lines() throws Exception {
+    final String content = IntStream.range(0, 1000).mapToObj((i) -> String.format("{\"id\": %d, \"name\": \"名前%d\"}", i, i)).collect(Collectors.joining("\n"));
+    for (int chunkSize : new int[] { 1, 13, 4096, content.length() * 3 }) {
+      for (long request : new long[] { 1, 7, Long.MAX_VALUE }) {
+        final List<Map<String, Object>> records = collect(Jsonifier.<Map<String, Object>>linesAsync(chunks(content, chunkSize), Map.class), request);
+        assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toList()), records.stream().map((record) -> record.get("id")).collect(Collectors.toList()), chunkSize + ", " + request);
+      }
+    }
+    assertEquals(List.of(), collect(Jsonifier.linesAsync(null, Map.class), 1));
+    assertEquals(List.of(), collect(Jsonifier.linesAsync(chunks(content, 1), null), 1));
+    assertEquals(List.of(), collect(Jsonifier.linesAsync(chunks("", 1), Map.class), 1));
+
+    final List<Map<String, Object>> records = Collections.synchronizedList(new ArrayList<>());
+    final ExecutionException error = assertThrows(ExecutionException.class, () -> collect(Jsonifier.<Map<String, Object>>linesAsync(chunks("{\"id\": 1}\n{\"id\": 2}\n{\"id\": }\n{\"id\": 4}", 4), Map.class), 1, records));
+    assertEquals(List.of(Map.of("id", 1), Map.of("id", 2)), records);
+    assertEquals(JsonParseException.class, error.getCause().getClass());
+    assertThrows(ExecutionException.class, () -> collect(Jsonifier.linesAsync(chunks(content, 1), Map.class), 0));
+  }
+
+  @Test
+  void cancel() throws Exception {
+    final String content = IntStream.range(0, 1000).mapToObj((i) -> String.format("{\"id\": %d}", i)).collect(Collectors.joining("\n"));
+    final List<Object> records = Collections.synchronizedList(new ArrayList<>());
+    final CompletableFuture<Void> cancelled = new CompletableFuture<>();
+    Jsonifier.<Map<String, Object>>linesAsync(chunks(content, 16), Map.class).subscribe(new Flow.Subscriber<Map<String, Object>>() {
+      private Flow.Subscription subscription;
+
+      @Override
+      public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+      }
+
+      @Override
+      public void onNext(final Map<String, Object> record) {
+        records.add(record.get("id"));
+        if (records.size() < 3) {
+          subscription.request(1);
+        } else {
+          subscription.cancel();
+          cancelled.complete(null);
+        }
+      }
+
+      @Override
+      public void onError(final Throwable error) {
+        cancelled.completeExceptionally(error);
+      }
+
+      @Override
+      public void onComplete() {
+        cancelled.completeExceptionally(new IllegalStateException("never completes after cancel ."));
+      }
+    });
+    cancelled.get(10, TimeUnit.SECONDS);
+    Thread.sleep(100);
+    assertEquals(List.of(0, 1, 2), records);
+  }
+
+  @Test
+  void writer() throws Exception {
+    final Object[] objects = { Map.of("a", 1), "", List.of("日本語", 2), new BigDecimal("0.1000000000000000000001") };
+    for (int chunkSize : new int[] { 1, 3, 8, 8192 }) {
+      for (long request : new long[] { 1, 7, Long.MAX_VALUE }) {
+        ChunkedWriter writer = Jsonifier.serializeAsync(Framing.LINES, chunkSize, null);
+        objects(objects).subscribe(writer);
+        assertEquals("{\"a\":1}\n\"\"\n[\"日本語\",2]\n0.1000000000000000000001\n", written(writer, request, chunkSize), chunkSize + ", " + request);
+
+        writer = Jsonifier.serializeAsync(Framing.ARRAY, chunkSize, null);
+        objects(objects).subscribe(writer);
+        assertEquals("[{\"a\":1},\"\",[\"日本語\",2],0.1000000000000000000001]", written(writer, request, chunkSize), chunkSize + ", " + request);
+      }
+    }
+    ChunkedWriter writer = Jsonifier.serializeAsync(Framing.ARRAY);
+    objects().subscribe(writer);
+    assertEquals("[]", written(writer, 1, 8192));
+    writer = Jsonifier.serializeAsync(Framing.LINES);
+    objects().subscribe(writer);
+    assertEquals("", written(writer, 1, 8192));
+    final ChunkedWriter failure = Jsonifier.serializeAsync(Framing.LINES);
+    objects(Map.of("a", 1), new Loop()).subscribe(failure);
+    assertThrows(ExecutionException.class, () -> collect(failure, 1));
+    assertThrows(ExecutionException.class, () -> collect(failure, 1));
+    assertThrows(IllegalArgumentException.class, () -> Jsonifier.serializeAsync(Framing.LINES, 0, null));
+  }
+
+  @Test
+  void writerFlush() throws Exception {
+    final ChunkedWriter writer = Jsonifier.serializeAsync(Framing.LINES, 8192, Duration.ofMillis(10));
+    final SubmissionPublisher<Object> publisher = new SubmissionPublisher<>();
+    publisher.subscribe(writer);
+    final List<String> chunks = Collections.synchronizedList(new ArrayList<>());
+    writer.subscribe(new Flow.Subscriber<ByteBuffer>() {
+      @Override
+      public void onSubscribe(final Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(final ByteBuffer chunk) {
+        chunks.add(StandardCharsets.UTF_8.decode(chunk).toString());
+      }
+
+      @Override
+      public void onError(final Throwable error) {/* never fails . */}
+
+      @Override
+      public void onComplete() {/* never completes . */}
+    });
+    publisher.submit(Map.of("id", 1));
+    for (int i = 0; i < 500 && chunks.isEmpty(); i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(List.of("{\"id\":1}\n"), chunks);
+    publisher.close();
+  }
+
+  @Test
+  void writerBackpressure() throws Exception {
+    final AtomicLong requested = new AtomicLong();
+    final ChunkedWriter writer = Jsonifier.serializeAsync(Framing.LINES, 16, null);
+    writer.onSubscribe(new Flow.Subscription() {
+      private long id;
+
+      @Override
+      public void request(final long n) {
+        requested.addAndGet(n);
+        for (long i = 0; i < n; i++) {
+          writer.onNext(Map.of("id", id++));
+        }
+      }
+
+      @Override
+      public void cancel() {/* nothing to cancel . */}
+    });
+    final List<ByteBuffer> chunks = new ArrayList<>();
+    writer.subscribe(new Flow.Subscriber<ByteBuffer>() {
+      @Override
+      public void onSubscribe(final Flow.Subscription subscription) {
+        subscription.request(2);
+      }
+
+      @Override
+      public void onNext(final ByteBuffer chunk) {
+        chunks.add(chunk);
+      }
+
+      @Override
+      public void onError(final Throwable error) {/* never fails . */}
+
+      @Override
+      public void onComplete() {/* never completes . */}
+    });
+    assertEquals(2, chunks.size());
+    assertEquals(4, requested.get());
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jp.furplag.data.json.Jsonifier;
+
+public class JsonLinesTest {
+
+  private static final String content = "{\"id\":1}\r\n\n \t\n{id: 2}\n{\"id\":\n{\"id\":4,\"name\":\"" + "x".repeat(10000) + "\"}";
+
+  private static InputStream stream() {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void lines() {
+    final List<Map<String, Object>> records = Jsonifier.<Map<String, Object>>lines(stream(), Map.class).collect(Collectors.toList());
+    assertEquals(4, records.size());
+    assertEquals(Map.of("id", 1), records.get(0));
+    assertEquals(Map.of("id", 2), records.get(1));
+    assertEquals(null, records.get(2));
+    assertEquals(10000, ((String) records.get(3).get("name")).length());
+    assertEquals(3, Jsonifier.lines(stream(), Map.class, OnFailure.SKIP).count());
+    assertEquals(4, Jsonifier.lines(stream(), Map.class, OnFailure.NULL).count());
+    assertThrows(UncheckedIOException.class, () -> Jsonifier.linesStrictly(stream(), Map.class).count());
+    assertEquals(0, Jsonifier.lines((InputStream) null, Map.class).count());
+    assertEquals(0, Jsonifier.lines(stream(), (Class<?>) null).count());
+  }
+
+  @Test
+  void trickle() {
+    final InputStream trickle = new FilterInputStream(stream()) {@Override public int read(byte[] b, int off, int len) throws IOException { return super.read(b, off, Math.min(len, 1)); }};
+    assertEquals(Arrays.asList(1, 2, 4), Jsonifier.<Map<String, Object>>lines(trickle, Map.class, OnFailure.SKIP).map((record) -> record.get("id")).collect(Collectors.toList()));
+  }
+
+  @Test
+  void writeLines(@TempDir Path directory) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    assertEquals(3, Jsonifier.writeLines(Stream.of(Map.of("id", 1), "two", Map.of("id", 3)), bytes));
+    assertEquals(1, Jsonifier.writeLines(Stream.of((Object) null), bytes));
+    assertEquals("{\"id\":1}\n\"two\"\n{\"id\":3}\nnull\n", bytes.toString(StandardCharsets.UTF_8));
+    assertEquals(0, Jsonifier.writeLines(null, bytes));
+
+    final Path file = Files.write(directory.resolve("records.ndjson"), bytes.toByteArray());
+    try (Stream<Object> records = Jsonifier.lines(file, Object.class)) {
+      assertEquals(Arrays.asList(Map.of("id", 1), "two", Map.of("id", 3), null), records.collect(Collectors.toList()));
+    }
+    assertEquals(0, Jsonifier.lines(directory.resolve("nothing.ndjson"), Object.class).count());
+    assertThrows(UncheckedIOException.class, () -> Jsonifier.lines(directory.resolve("nothing.ndjson"), Object.class, OnFailure.THROW));
+    assertThrows(NoSuchFileException.class, () -> Jsonifier.linesStrictly(directory.resolve("nothing.ndjson"), Object.class));
+  }
+
+  @Test
+  void isBlank() {
+    assertTrue(LineSpliterator.isBlank(" \t\r".getBytes(StandardCharsets.UTF_8), 0, 3));
+    assertFalse(LineSpliterator.isBlank(" {} ".getBytes(StandardCharsets.UTF_8), 0, 4));
+  }
+
+  @Test
+  void linesParallel(@TempDir Path directory) throws IOException {
+    final StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 100000; i++) {
+      content.append(i % 777 == 0 ? "\r\n" : "").append(i % 25000 == 3 ? "{broken\n" : "").append(String.format("{\"id\": %d, \"name\": \"%s\"}\n", i, "x".repeat(i % 37)));
+    }
+    final byte[] bytes = content.append("{\"id\": 100000}").toString().getBytes(StandardCharsets.UTF_8);
+    final List<Object> expect = IntStream.rangeClosed(0, 100000).boxed().collect(Collectors.toList());
+
+    assertEquals(expect, Jsonifier.<Map<String, Object>>linesParallel(ByteBuffer.wrap(bytes), Map.class, true, OnFailure.SKIP).map((record) -> record.get("id")).collect(Collectors.toList()));
+    assertEquals(expect, Jsonifier.<Map<String, Object>>linesParallel(ByteBuffer.wrap(bytes), Map.class, false, OnFailure.SKIP).map((record) -> (Integer) record.get("id")).sorted().collect(Collectors.toList()));
+    assertEquals(100005, Jsonifier.linesParallel(ByteBuffer.wrap(bytes), Map.class, true).count());
+    assertThrows(UncheckedIOException.class, () -> Jsonifier.linesParallel(ByteBuffer.wrap(bytes), Map.class, true, OnFailure.THROW).count());
+
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2);
+    direct.put((byte) '\n').put(bytes).flip().position(1);
+    assertEquals(expect, Jsonifier.<Map<String, Object>>linesParallel(direct, Map.class, true, OnFailure.SKIP).map((record) -> record.get("id")).collect(Collectors.toList()));
+    assertEquals(1, direct.position());
+
+    final Path file = Files.write(directory.resolve("records.ndjson"), bytes);
+    assertEquals(expect, Jsonifier.<Map<String, Object>>linesParallel(file, Map.class, true, OnFailure.SKIP).map((record) -> record.get("id")).collect(Collectors.toList()));
+    assertEquals(0, Jsonifier.linesParallel(directory.resolve("nothing.ndjson"), Map.class, true).count());
+    assertThrows(UncheckedIOException.class, () -> Jsonifier.linesParallel(directory.resolve("nothing.ndjson"), Map.class, true, OnFailure.THROW));
+    assertEquals(0, Jsonifier.linesParallel((ByteBuffer) null, Map.class, true).count());
+
+    try (FileChannel channel = FileChannel.open(file)) {
+      final ByteBuffer[] windows = LineChunkSpliterator.map(channel, 4096);
+      assertTrue(windows.length > 100);
+      assertEquals(bytes.length, Arrays.stream(windows).mapToLong(ByteBuffer::limit).sum());
+      assertTrue(Arrays.stream(windows).limit(windows.length - 1).allMatch((window) -> window.get(window.limit() - 1) == '\n'));
+      assertEquals(expect, StreamSupport.stream(new LineChunkSpliterator<Map<String, Object>>(windows, new ObjectMapper().readerFor(Map.class), OnFailure.SKIP), true).map((record) -> record.get("id")).collect(Collectors.toList()));
+      assertThrows(IOException.class, () -> LineChunkSpliterator.map(channel, 16));
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2017+ furplag (https://github.com/furplag)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.furplag.data.json.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import jp.furplag.data.json.Jsonifier;
+
+public class MappedInputStreamTest {
+
+  @Test
+  void read(@TempDir Path directory) throws IOException {
+    final byte[] content = "{\"南\": [1, 2, 3], \"北\": null}".getBytes(StandardCharsets.UTF_8);
+    final Path file = Files.write(directory.resolve("content.json"), content);
+    for (int windowSize : new int[] {1, 3, 7, MappedInputStream.defaultWindowSize}) {
+      try (InputStream stream = MappedInputStream.open(file, windowSize)) {
+        assertArrayEquals(content, stream.readAllBytes());
+        assertEquals(-1, stream.read());
+      }
+      try (InputStream stream = MappedInputStream.open(file, windowSize)) {
+        assertEquals(content[0], stream.read());
+        assertEquals(5, stream.skip(5));
+        assertEquals(content[6], stream.read());
+        assertEquals(content.length - 7, stream.available());
+        assertEquals(content.length - 7, stream.skip(Long.MAX_VALUE));
+        assertEquals(-1, stream.read());
+      }
+    }
+    try (InputStream stream = MappedInputStream.open(Files.createFile(directory.resolve("empty.json")))) {
+      assertEquals(-1, stream.read());
+    }
+    assertThrows(IllegalArgumentException.class, () -> MappedInputStream.open(file, 0));
+  }
+
+  @Test
+  void deserializeMapped(@TempDir Path directory) throws IOException {
+    final Path file = Files.writeString(directory.resolve("content.json"), "/* comment */ {one: 'One', two: [1, 2, ], } # comment");
+    assertEquals(Map.of("one", "One", "two", List.of(1, 2)), Jsonifier.deserializeMapped(file, Map.class));
+    assertEquals(Map.of("one", "One", "two", List.of(1, 2)), Jsonifier.deserializeMappedStrictly(file, Map.class));
+    assertNull(Jsonifier.deserializeMapped(directory.resolve("nothing.json"), Map.class));
+    assertNull(Jsonifier.deserializeMapped(file, (Class<?>) null));
+    assertNull(Jsonifier.deserializeMapped(Files.writeString(directory.resolve("broken.json"), "{one: "), Map.class));
+    assertThrows(NoSuchFileException.class, () -> Jsonifier.deserializeMappedStrictly(directory.resolve("nothing.json"), Map.class));
+    assertThrows(JsonProcessingException.class, () -> Jsonifier.deserializeMappedStrictly(directory.resolve("broken.json"), Map.class));
+  }
+}